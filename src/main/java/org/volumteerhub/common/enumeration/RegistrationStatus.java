@@ -4,5 +4,7 @@ public enum RegistrationStatus {
     PENDING,
     APPROVED,
     REJECTED,
-    COMPLETED
+    COMPLETED,
+    // Event was full when joining, promoted to PENDING when a seat frees up
+    WAITLISTED
 }
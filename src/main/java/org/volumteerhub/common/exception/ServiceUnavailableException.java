@@ -0,0 +1,22 @@
+package org.volumteerhub.common.exception;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when the server sheds load and the client should retry later.
+ */
+@Getter
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final int retryAfterSeconds;
+
+    /**
+     * Constructs a ServiceUnavailableException with the specified detail message.
+     * @param message the detail message.
+     * @param retryAfterSeconds the delay sent back in the Retry-After header.
+     */
+    public ServiceUnavailableException(String message, int retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
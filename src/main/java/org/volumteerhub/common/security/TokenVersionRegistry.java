@@ -0,0 +1,89 @@
+package org.volumteerhub.common.security;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.volumteerhub.model.RevokedUser;
+import org.volumteerhub.repository.RevokedUserRepository;
+import org.volumteerhub.repository.UserRepository;
+import org.volumteerhub.util.JwtUtil;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory table of the minimum token version accepted per user.
+ * Lets the JWT filter reject revoked tokens without touching the database.
+ * Users that never had their tokens revoked are not stored (version 0).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenVersionRegistry {
+
+    private final UserRepository userRepository;
+    private final RevokedUserRepository revokedUserRepository;
+
+    private final Map<UUID, Integer> versions = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void load() {
+        userRepository.findRevokedTokenVersions()
+                .forEach(v -> versions.put(v.getId(), v.getTokenVersion()));
+        revokedUserRepository.findAllUserIds()
+                .forEach(id -> versions.put(id, Integer.MAX_VALUE));
+        log.info("Loaded token versions for {} users", versions.size());
+    }
+
+    /**
+     * @return true if a token issued with the given version is still accepted.
+     */
+    public boolean isCurrent(UUID userId, int tokenVersion) {
+        return tokenVersion >= versions.getOrDefault(userId, 0);
+    }
+
+    public void update(UUID userId, int tokenVersion) {
+        versions.merge(userId, tokenVersion, Math::max);
+    }
+
+    /**
+     * Rejects every token of a deleted user. A tombstone row keeps them rejected
+     * after a restart, when the user's row is gone. Call inside the delete transaction;
+     * the in-memory entry is only set once it commits, so a rollback leaves the user usable.
+     */
+    public void revokeAll(UUID userId) {
+        revokedUserRepository.save(new RevokedUser(userId, Instant.now()));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            versions.put(userId, Integer.MAX_VALUE);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                versions.put(userId, Integer.MAX_VALUE);
+            }
+        });
+    }
+
+    /**
+     * Drops tombstones older than the token lifetime: every token they guarded has expired.
+     */
+    @Scheduled(fixedDelayString = "${app.security.revoked-user-prune-interval-ms:3600000}")
+    public void pruneExpiredTombstones() {
+        Instant cutoff = Instant.now().minusMillis(JwtUtil.EXPIRATION_MS);
+        List<UUID> expired = revokedUserRepository.findUserIdsRevokedBefore(cutoff);
+        if (expired.isEmpty()) {
+            return;
+        }
+        revokedUserRepository.deleteAllByIdInBatch(expired);
+        expired.forEach(versions::remove);
+        log.info("Pruned {} expired revoked-user tombstones", expired.size());
+    }
+}
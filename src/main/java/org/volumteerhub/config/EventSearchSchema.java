@@ -0,0 +1,95 @@
+package org.volumteerhub.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.volumteerhub.model.Event;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Sets up the trigram index behind event search, which ddl-auto cannot create,
+ * and fills search_text for events created before the column existed.
+ * Runs outside any transaction: the index is built CONCURRENTLY so writes to event
+ * keep going while it builds.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventSearchSchema {
+
+    private static final String INDEX_NAME = "idx_event_search_text_trgm";
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean trigramAvailable;
+
+    private record PendingText(UUID id, String searchText) {
+    }
+
+    /**
+     * @return true if pg_trgm is installed, so results can be ranked by similarity.
+     */
+    public boolean isTrigramAvailable() {
+        return trigramAvailable;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            dropInvalidIndex();
+            jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + INDEX_NAME
+                    + " ON event USING gin (search_text gin_trgm_ops)");
+            trigramAvailable = true;
+        } catch (Exception e) {
+            // Search still works without the extension, just with sequential scans
+            log.warn("pg_trgm unavailable, event search runs unindexed: {}", e.getMessage());
+        }
+
+        backfillSearchText();
+    }
+
+    // An interrupted concurrent build leaves an INVALID index that IF NOT EXISTS would keep
+    private void dropInvalidIndex() {
+        Boolean invalid = jdbcTemplate.query(
+                "SELECT NOT i.indisvalid FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid WHERE c.relname = ?",
+                rs -> rs.next() ? rs.getBoolean(1) : Boolean.FALSE,
+                INDEX_NAME);
+        if (Boolean.TRUE.equals(invalid)) {
+            log.warn("Dropping invalid index {} left by an interrupted build", INDEX_NAME);
+            jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + INDEX_NAME);
+        }
+    }
+
+    // Plain UPDATEs of search_text only, so updated_at (and every client's ETag) stays as it was
+    private void backfillSearchText() {
+        int total = 0;
+        List<PendingText> batch;
+        do {
+            batch = jdbcTemplate.query(
+                    "SELECT id, name, description, location FROM event WHERE search_text IS NULL LIMIT ?",
+                    (rs, row) -> new PendingText(
+                            rs.getObject("id", UUID.class),
+                            Event.foldedSearchText(rs.getString("name"), rs.getString("description"),
+                                    rs.getString("location"))),
+                    BACKFILL_BATCH_SIZE);
+
+            jdbcTemplate.batchUpdate("UPDATE event SET search_text = ? WHERE id = ?", batch, batch.size(),
+                    (ps, pending) -> {
+                        ps.setString(1, pending.searchText());
+                        ps.setObject(2, pending.id());
+                    });
+            total += batch.size();
+        } while (batch.size() == BACKFILL_BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("Backfilled search text for {} events", total);
+        }
+    }
+}
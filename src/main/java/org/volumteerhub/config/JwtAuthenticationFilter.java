@@ -1,5 +1,6 @@
 package org.volumteerhub.config;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,20 +8,20 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.volumteerhub.common.security.TokenVersionRegistry;
+import org.volumteerhub.common.security.UserPrincipal;
 import org.volumteerhub.util.JwtUtil;
 
 import java.io.IOException;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
-    private final UserDetailsService userDetailsService;
+    private final TokenVersionRegistry tokenVersionRegistry;
 
-    public JwtAuthenticationFilter(UserDetailsService userDetailsService) {
-        this.userDetailsService = userDetailsService;
+    public JwtAuthenticationFilter(TokenVersionRegistry tokenVersionRegistry) {
+        this.tokenVersionRegistry = tokenVersionRegistry;
     }
 
     @Override
@@ -36,16 +37,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             token = authHeader.substring(7);
         }
 
-        if (token != null && JwtUtil.validateToken(token)) {
-            String username = JwtUtil.getUsernameFromToken(token);
+        Claims claims = token != null ? JwtUtil.verify(token) : null;
 
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        if (claims != null) {
+            // Stateless: the principal comes from the claims, revocation from the in-memory version table
+            UserPrincipal principal = JwtUtil.getPrincipal(claims);
+
+            if (principal == null || !tokenVersionRegistry.isCurrent(principal.getId(), principal.getTokenVersion())) {
+                filterChain.doFilter(request, response);
+                return;
+            }
 
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
-                            userDetails,
+                            principal,
                             null,
-                            userDetails.getAuthorities()
+                            principal.getAuthorities()
                     );
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
@@ -0,0 +1,187 @@
+package org.volumteerhub.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.volumteerhub.common.security.UserPrincipal;
+import org.volumteerhub.dto.ErrorResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-client token-bucket rate limiting, keyed by user id (or IP when anonymous)
+ * and endpoint group. Runs after the JWT filter so the user id is known.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    // Bounded to max-buckets; each bucket is a single CAS-updated long
+    private final Cache<String, TokenBucket> buckets;
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        validate(properties);
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+
+        // A bucket untouched for its longest refill time is full again, the same as a new one
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(longestRefill(properties))
+                .build();
+    }
+
+    /**
+     * Fails startup on rules that would divide by zero or overflow the bucket arithmetic.
+     */
+    private static void validate(RateLimitProperties properties) {
+        if (properties.getMaxBuckets() < 1) {
+            throw new IllegalArgumentException("app.rate-limit.max-buckets must be positive");
+        }
+        for (RateLimitProperties.Rule rule : properties.getRules()) {
+            if (!StringUtils.hasText(rule.getName()) || !StringUtils.hasText(rule.getPattern())) {
+                throw new IllegalArgumentException("Rate limit rules need a name and a pattern");
+            }
+            if (rule.getCapacity() < 1) {
+                throw new IllegalArgumentException("Rate limit rule " + rule.getName() + ": capacity must be positive");
+            }
+            // At least one token a day keeps the emission interval and burst well inside a long
+            if (!(rule.getRefillPerSecond() >= 1.0 / TimeUnit.DAYS.toSeconds(1))
+                    || Double.isInfinite(rule.getRefillPerSecond())) {
+                throw new IllegalArgumentException("Rate limit rule " + rule.getName()
+                        + ": refill-per-second must be positive (at least one token a day)");
+            }
+        }
+    }
+
+    private static Duration longestRefill(RateLimitProperties properties) {
+        double seconds = properties.getRules().stream()
+                .mapToDouble(rule -> rule.getCapacity() / rule.getRefillPerSecond())
+                .max()
+                .orElse(0);
+        return Duration.ofSeconds((long) Math.ceil(seconds) + 1);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RateLimitProperties.Rule rule = properties.isEnabled() ? findRule(request) : null;
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long now = System.nanoTime();
+        String key = rule.getName() + "|" + resolveClientKey(request);
+
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(rule, now));
+
+        long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        reject(request, response, rule, waitNanos);
+    }
+
+    private RateLimitProperties.Rule findRule(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+
+        for (RateLimitProperties.Rule rule : properties.getRules()) {
+            boolean methodMatches = !StringUtils.hasText(rule.getMethod())
+                    || rule.getMethod().equalsIgnoreCase(request.getMethod());
+            if (methodMatches && pathMatcher.match(rule.getPattern(), path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private String resolveClientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return "u:" + principal.getId();
+        }
+        // The client address, not the proxy's: server.forward-headers-strategy resolves X-Forwarded-For
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response,
+                        RateLimitProperties.Rule rule, long waitNanos) throws IOException {
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        meterRegistry.counter("api.rate_limit.rejected", "group", rule.getName()).increment();
+
+        HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+        ErrorResponse errorResponse = ErrorResponse.build(
+                status,
+                "Too many requests. Please try again later.",
+                request.getRequestURI()
+        );
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    /**
+     * Lock-free token bucket using the generic cell rate algorithm: the whole state is
+     * the theoretical arrival time of the next request, updated with a CAS.
+     */
+    static final class TokenBucket {
+
+        private final long emissionIntervalNanos;
+        private final long burstNanos;
+        private final AtomicLong theoreticalArrival;
+
+        TokenBucket(RateLimitProperties.Rule rule, long now) {
+            this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rule.getRefillPerSecond());
+            this.burstNanos = emissionIntervalNanos * rule.getCapacity();
+            this.theoreticalArrival = new AtomicLong(now);
+        }
+
+        /**
+         * @return 0 if a token was taken, otherwise the nanoseconds until the next one is available.
+         */
+        long tryAcquire(long now) {
+            while (true) {
+                long arrival = theoreticalArrival.get();
+                long next = Math.max(arrival, now) + emissionIntervalNanos;
+                long allowedAt = next - burstNanos;
+
+                if (allowedAt > now) {
+                    return allowedAt - now;
+                }
+                if (theoreticalArrival.compareAndSet(arrival, next)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.volumteerhub.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Upper bound on tracked (client, group) buckets, beyond it the coldest are evicted
+    private int maxBuckets = 100_000;
+
+    // First matching rule wins, requests matching no rule are not limited
+    private List<Rule> rules = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+
+        // Endpoint group name, used in metrics and bucket keys
+        private String name;
+
+        // Ant-style path pattern, e.g. /api/posts/*/reaction/*
+        private String pattern;
+
+        // HTTP method to match, empty matches all
+        private String method;
+
+        // Burst size
+        private int capacity;
+
+        // Sustained rate
+        private double refillPerSecond;
+    }
+}
@@ -0,0 +1,60 @@
+package org.volumteerhub.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.volumteerhub.common.enumeration.RegistrationStatus;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Hibernate creates a CHECK constraint listing the enum values, but ddl-auto=update never
+ * widens it. Recreate it, only when a value is missing, so values added later (WAITLISTED) can be stored.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RegistrationStatusSchema {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void refreshStatusConstraint() {
+        String values = Arrays.stream(RegistrationStatus.values())
+                .map(status -> "'" + status.name() + "'")
+                .collect(Collectors.joining(", "));
+
+        try {
+            if (isUpToDate()) {
+                return;
+            }
+            log.info("Widening registration status constraint to {}", values);
+            jdbcTemplate.execute("ALTER TABLE registration DROP CONSTRAINT IF EXISTS registration_status_check");
+            jdbcTemplate.execute("ALTER TABLE registration ADD CONSTRAINT registration_status_check "
+                    + "CHECK (status IN (" + values + "))");
+        } catch (Exception e) {
+            log.warn("Could not refresh registration status constraint: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the current definition from the catalog, true if it already allows every status.
+     */
+    private boolean isUpToDate() {
+        List<String> definitions = jdbcTemplate.queryForList(
+                "SELECT pg_get_constraintdef(c.oid) FROM pg_constraint c "
+                        + "WHERE c.conname = 'registration_status_check' AND c.conrelid = 'registration'::regclass",
+                String.class);
+        if (definitions.isEmpty()) {
+            return false;
+        }
+        String definition = definitions.get(0);
+        return Arrays.stream(RegistrationStatus.values())
+                .allMatch(status -> definition.contains("'" + status.name() + "'"));
+    }
+}
@@ -1,22 +1,29 @@
 package org.volumteerhub.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.volumteerhub.common.enumeration.UserRole;
+import org.volumteerhub.common.security.TokenVersionRegistry;
 
 @Configuration
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http, UserDetailsService userDetailsService) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   TokenVersionRegistry tokenVersionRegistry,
+                                                   RateLimitProperties rateLimitProperties,
+                                                   ObjectMapper objectMapper,
+                                                   MeterRegistry meterRegistry) throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable)
             .authorizeHttpRequests(auth -> auth
@@ -26,18 +33,23 @@ public class SecurityConfig {
                     .requestMatchers("/api/users").permitAll()
                     .requestMatchers("/api/auth/login").permitAll()
                     .requestMatchers("/api/admin/**").hasAuthority(UserRole.ADMIN.name())
+                    .requestMatchers("/actuator/health").permitAll()
+                    .requestMatchers("/actuator/**").hasAuthority(UserRole.ADMIN.name())
                     .requestMatchers(
                             "/api/docs/**",
                             "/api/swagger-ui/**"
                     ).permitAll()
                     .anyRequest().authenticated()
-            ).addFilterBefore(new JwtAuthenticationFilter(userDetailsService), UsernamePasswordAuthenticationFilter.class);
+            ).addFilterBefore(new JwtAuthenticationFilter(tokenVersionRegistry), UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(
+                    new RateLimitFilter(rateLimitProperties, objectMapper, meterRegistry),
+                    UsernamePasswordAuthenticationFilter.class);
         return http.build();
     }
 
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder passwordEncoder(@Value("${app.security.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
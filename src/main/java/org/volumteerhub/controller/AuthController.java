@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.volumteerhub.common.exception.ServiceUnavailableException;
 import org.volumteerhub.dto.ApiResponse;
 import org.volumteerhub.dto.LoginRequest;
 import org.volumteerhub.service.AuthService;
@@ -25,6 +26,8 @@ public class AuthController {
         try {
             ApiResponse response = authService.login(request);
             return ResponseEntity.ok(response); // HTTP 200 for success
+        } catch (ServiceUnavailableException e) {
+            throw e; // HTTP 503, handled globally with Retry-After
         } catch (RuntimeException e) {
             ApiResponse errorResponse = new MessageResponse(e.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse); // HTTP 401 for unauthorized
@@ -3,6 +3,7 @@ package org.volumteerhub.controller;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
@@ -12,12 +13,19 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.volumteerhub.common.enumeration.EventStatus;
 import org.volumteerhub.common.validation.OnCreate;
 import org.volumteerhub.common.validation.OnUpdate;
+import org.volumteerhub.dto.CursorPage;
 import org.volumteerhub.dto.EventDto;
+import org.volumteerhub.dto.EventSuggestionDto;
 import org.volumteerhub.service.EventService;
+import org.volumteerhub.util.Cursor;
+import org.volumteerhub.util.ETagUtil;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -34,28 +42,52 @@ public class EventController {
         return ResponseEntity.status(HttpStatus.CREATED).body(eventService.create(dto));
     }
 
-    // GET BY ID
+    // AUTOCOMPLETE (approved event names and locations)
+    @GetMapping("/suggest")
+    public List<EventSuggestionDto> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "5") int limit) {
+        return eventService.suggest(q, limit);
+    }
+
+    // GET BY ID (304 when the client's ETag / Last-Modified is still current)
     @GetMapping("/{id}")
-    public EventDto get(@PathVariable UUID id) {
+    public EventDto get(@PathVariable UUID id, WebRequest request) {
+        Instant version = eventService.getVersion(id);
+        if (request.checkNotModified(ETagUtil.weak(id, version), version.toEpochMilli())) {
+            return null;
+        }
         return eventService.get(id);
     }
 
-    // LIST (page + filter)
+    // LIST (page + filter), or keyset slices when ?cursor= is present (empty for the first slice)
     @GetMapping
-    public ResponseEntity<PagedModel<EntityModel<EventDto>>> list(
+    public ResponseEntity<?> list(
             @RequestParam(required = false) EventStatus status,
             @RequestParam(required = false) UUID ownerId,
             @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
             Pageable pageable,
             PagedResourcesAssembler<EventDto> assembler
     ) {
+        if (cursor != null) {
+            Slice<EventDto> slice = eventService.listByCursor(status, ownerId, search, cursor, pageable.getPageSize());
+            return ResponseEntity.ok(CursorPage.of(slice,
+                    event -> new Cursor(event.getCreatedAt(), event.getId()),
+                    this::toModel));
+        }
+
         Page<EventDto> page = eventService.list(status, ownerId, search, pageable);
-        PagedModel<EntityModel<EventDto>> resources = assembler.toModel(page, event -> EntityModel.of(event,
-                linkTo(methodOn(EventController.class).get(event.getId())).withSelfRel()
-        ));
+        PagedModel<EntityModel<EventDto>> resources = assembler.toModel(page, this::toModel);
         return ResponseEntity.ok(resources);
     }
 
+    private EntityModel<EventDto> toModel(EventDto event) {
+        return EntityModel.of(event,
+                linkTo(methodOn(EventController.class).get(event.getId(), null)).withSelfRel()
+        );
+    }
+
     // UPDATE
     @PatchMapping("/{id}")
     public EventDto update(
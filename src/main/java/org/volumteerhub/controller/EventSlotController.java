@@ -0,0 +1,64 @@
+package org.volumteerhub.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.volumteerhub.common.validation.OnCreate;
+import org.volumteerhub.common.validation.OnUpdate;
+import org.volumteerhub.dto.EventSlotDto;
+import org.volumteerhub.service.EventSlotService;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/events/{eventId}/slots")
+@RequiredArgsConstructor
+public class EventSlotController {
+
+    private final EventSlotService eventSlotService;
+
+    // LIST (with free seats per slot)
+    @GetMapping
+    public List<EventSlotDto> list(@PathVariable UUID eventId) {
+        return eventSlotService.list(eventId);
+    }
+
+    // --- Event Manager Actions ---
+
+    @PostMapping
+    public ResponseEntity<EventSlotDto> create(
+            @PathVariable UUID eventId,
+            @Validated(OnCreate.class) @RequestBody EventSlotDto dto) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(eventSlotService.create(eventId, dto));
+    }
+
+    @PatchMapping("/{slotId}")
+    public EventSlotDto update(
+            @PathVariable UUID eventId,
+            @PathVariable UUID slotId,
+            @Validated(OnUpdate.class) @RequestBody EventSlotDto dto) {
+        return eventSlotService.update(eventId, slotId, dto);
+    }
+
+    @DeleteMapping("/{slotId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void delete(@PathVariable UUID eventId, @PathVariable UUID slotId) {
+        eventSlotService.delete(eventId, slotId);
+    }
+
+    // --- Volunteer Actions ---
+
+    @PostMapping("/{slotId}/join")
+    public EventSlotDto join(@PathVariable UUID eventId, @PathVariable UUID slotId) {
+        return eventSlotService.join(eventId, slotId);
+    }
+
+    @DeleteMapping("/{slotId}/join")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void leave(@PathVariable UUID eventId, @PathVariable UUID slotId) {
+        eventSlotService.leave(eventId, slotId);
+    }
+}
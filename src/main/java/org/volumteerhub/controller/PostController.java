@@ -3,6 +3,7 @@ package org.volumteerhub.controller;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
@@ -10,14 +11,19 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.volumteerhub.common.enumeration.ReactionType;
 import org.volumteerhub.common.exception.BadRequestException;
 import org.volumteerhub.common.validation.OnCreate;
 import org.volumteerhub.common.validation.OnUpdate;
+import org.volumteerhub.dto.CursorPage;
 import org.volumteerhub.dto.PostDto;
 import org.volumteerhub.service.PostService;
+import org.volumteerhub.util.Cursor;
+import org.volumteerhub.util.ETagUtil;
 import org.volumteerhub.util.StringUtil;
 
+import java.time.Instant;
 import java.util.Collections;
 import java.util.Map;
 import java.util.UUID;
@@ -32,24 +38,34 @@ public class PostController {
 
     private final PostService postService;
 
-    // LIST
+    // LIST (page), or keyset slices when ?cursor= is present (empty for the first slice)
     @GetMapping("/events/{eventId}/posts")
-    public ResponseEntity<PagedModel<EntityModel<PostDto>>> listByEvent(
+    public ResponseEntity<?> listByEvent(
             @PathVariable UUID eventId,
+            @RequestParam(required = false) String cursor,
             Pageable pageable,
             PagedResourcesAssembler<PostDto> assembler) {
 
+        if (cursor != null) {
+            Slice<PostDto> slice = postService.listByEventCursor(eventId, cursor, pageable.getPageSize());
+            return ResponseEntity.ok(CursorPage.of(slice,
+                    dto -> new Cursor(dto.getCreatedAt(), dto.getId()),
+                    this::toModel));
+        }
+
         Page<PostDto> page = postService.listByEvent(eventId, pageable);
 
-        PagedModel<EntityModel<PostDto>> resources = assembler.toModel(page, dto ->
-                EntityModel.of(dto,
-                        linkTo(methodOn(PostController.class).getPost(dto.getId())).withSelfRel()
-                )
-        );
+        PagedModel<EntityModel<PostDto>> resources = assembler.toModel(page, this::toModel);
 
         return ResponseEntity.ok(resources);
     }
 
+    private EntityModel<PostDto> toModel(PostDto dto) {
+        return EntityModel.of(dto,
+                linkTo(methodOn(PostController.class).getPost(dto.getId(), null)).withSelfRel()
+        );
+    }
+
     // CREATE
     @PostMapping("/events/{eventId}/posts")
     public ResponseEntity<PostDto> createPost(
@@ -60,9 +76,13 @@ public class PostController {
                 .body(postService.create(eventId, dto));
     }
 
-    // GET
+    // GET (304 when the client's ETag / Last-Modified is still current)
     @GetMapping("/posts/{postId}")
-    public ResponseEntity<PostDto> getPost(@PathVariable UUID postId) {
+    public ResponseEntity<PostDto> getPost(@PathVariable UUID postId, WebRequest request) {
+        Instant version = postService.getVersion(postId);
+        if (request.checkNotModified(ETagUtil.weak(postId, version), version.toEpochMilli())) {
+            return null;
+        }
         return ResponseEntity.ok(postService.get(postId));
     }
 
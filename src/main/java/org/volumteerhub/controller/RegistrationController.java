@@ -3,6 +3,7 @@ package org.volumteerhub.controller;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
@@ -10,8 +11,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.volumteerhub.common.enumeration.RegistrationStatus;
+import org.volumteerhub.dto.CursorPage;
 import org.volumteerhub.dto.RegistrationDto;
 import org.volumteerhub.service.RegistrationService;
+import org.volumteerhub.util.Cursor;
 
 import java.util.UUID;
 
@@ -33,30 +36,63 @@ public class RegistrationController {
         return ResponseEntity.ok(registration);
     }
 
+    // Page, or keyset slices when ?cursor= is present (empty for the first slice)
     @GetMapping
-    public ResponseEntity<PagedModel<EntityModel<RegistrationDto>>> list(
+    public ResponseEntity<?> list(
             @RequestParam(required = false) RegistrationStatus status,
             @RequestParam(required = false) UUID eventId,
             @RequestParam(required = false) UUID userId,
+            @RequestParam(required = false) String cursor,
             Pageable pageable,
             PagedResourcesAssembler<RegistrationDto> assembler
     ) {
+        if (cursor != null) {
+            Slice<RegistrationDto> slice = registrationService.listByCursor(
+                    status, eventId, userId, cursor, pageable.getPageSize());
+            return ResponseEntity.ok(CursorPage.of(slice,
+                    registration -> new Cursor(registration.getCreatedAt(), registration.getId()),
+                    this::toModel));
+        }
+
         Page<RegistrationDto> page = registrationService.list(status, eventId, userId, pageable);
 
-        PagedModel<EntityModel<RegistrationDto>> resources = assembler.toModel(page, registration ->
-                EntityModel.of(registration,
-                        linkTo(methodOn(RegistrationController.class).getRegistration(registration.getId())).withSelfRel()
-                )
-        );
+        PagedModel<EntityModel<RegistrationDto>> resources = assembler.toModel(page, this::toModel);
 
         return ResponseEntity.ok(resources);
     }
 
+    @GetMapping("/mine")
+    public ResponseEntity<?> listMine(
+            @RequestParam(required = false) RegistrationStatus status,
+            @RequestParam(required = false) String cursor,
+            Pageable pageable,
+            PagedResourcesAssembler<RegistrationDto> assembler
+    ) {
+        if (cursor != null) {
+            Slice<RegistrationDto> slice = registrationService.listMineByCursor(status, cursor, pageable.getPageSize());
+            return ResponseEntity.ok(CursorPage.of(slice,
+                    registration -> new Cursor(registration.getCreatedAt(), registration.getId()),
+                    this::toModel));
+        }
+
+        Page<RegistrationDto> page = registrationService.listMine(status, pageable);
+
+        return ResponseEntity.ok(assembler.toModel(page, this::toModel));
+    }
+
+    private EntityModel<RegistrationDto> toModel(RegistrationDto registration) {
+        return EntityModel.of(registration,
+                linkTo(methodOn(RegistrationController.class).getRegistration(registration.getId())).withSelfRel()
+        );
+    }
+
     // --- Volunteer Endpoints ---
 
     @PostMapping("/{eventId}/join")
-    public ResponseEntity<RegistrationDto> joinEvent(@PathVariable UUID eventId) {
-        RegistrationDto registration = registrationService.joinEvent(eventId);
+    public ResponseEntity<RegistrationDto> joinEvent(
+            @PathVariable UUID eventId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        RegistrationDto registration = registrationService.joinEvent(eventId, idempotencyKey);
         return new ResponseEntity<>(registration, HttpStatus.CREATED);
     }
 
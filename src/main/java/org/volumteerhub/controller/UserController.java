@@ -10,13 +10,16 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.volumteerhub.common.enumeration.UserRole;
 import org.volumteerhub.common.validation.OnCreate;
 import org.volumteerhub.common.validation.OnUpdate;
 import org.volumteerhub.dto.CreateUserRequest;
 import org.volumteerhub.dto.UserResponse;
 import org.volumteerhub.service.UserService;
+import org.volumteerhub.util.ETagUtil;
 
+import java.time.Instant;
 import java.util.UUID;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
@@ -45,18 +48,23 @@ public class UserController {
         Page<UserResponse> page = userService.list(role, isActive, username, pageable);
 
         PagedModel<EntityModel<UserResponse>> resources = assembler.toModel(page, user -> EntityModel.of(user,
-                linkTo(methodOn(UserController.class).getUser(user.getId().toString())).withSelfRel()
+                linkTo(methodOn(UserController.class).getUser(user.getId().toString(), null)).withSelfRel()
         ));
 
         return ResponseEntity.ok(resources);
     }
 
+    // 304 when the client's ETag / Last-Modified is still current
     @GetMapping("/{id}")
-    public UserResponse getUser(@PathVariable String id) {
-        if (id.equals("myself")) {
-            return userService.getMyself();
+    public UserResponse getUser(@PathVariable String id, WebRequest request) {
+        UUID userId = id.equals("myself")
+                ? userService.getCurrentPrincipal().getId()
+                : UUID.fromString(id);
+
+        Instant version = userService.getVersion(userId);
+        if (request.checkNotModified(ETagUtil.weak(userId, version), version.toEpochMilli())) {
+            return null;
         }
-        UUID userId = UUID.fromString(id);
         return userService.get(userId);
     }
 
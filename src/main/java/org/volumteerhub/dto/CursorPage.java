@@ -0,0 +1,37 @@
+package org.volumteerhub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.data.domain.Slice;
+import org.volumteerhub.util.Cursor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> content;
+
+    private int size;
+
+    private boolean hasNext;
+
+    // Pass back as ?cursor= to fetch the next slice, null on the last one
+    private String nextCursor;
+
+    public static <T, R> CursorPage<R> of(Slice<T> slice, Function<T, Cursor> cursorOf, Function<T, R> mapper) {
+        List<T> content = slice.getContent();
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+                ? cursorOf.apply(content.get(content.size() - 1)).encode()
+                : null;
+
+        return new CursorPage<>(
+                content.stream().map(mapper).toList(),
+                slice.getSize(),
+                slice.hasNext(),
+                nextCursor
+        );
+    }
+}
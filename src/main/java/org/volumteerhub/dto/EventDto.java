@@ -2,12 +2,14 @@ package org.volumteerhub.dto;
 
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import org.springframework.hateoas.server.core.Relation;
 import org.volumteerhub.common.enumeration.EventStatus;
 import org.volumteerhub.common.validation.OnCreate;
+import org.volumteerhub.common.validation.OnUpdate;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -36,11 +38,23 @@ public class EventDto {
     @NotNull(groups = OnCreate.class)
     private Instant endDate;
 
+    @Min(value = 1, groups = {OnCreate.class, OnUpdate.class})
+    private Integer maxParticipants;
+
+    // Read-only
+    private Integer seatsTaken;
+
     private UUID ownerId;
 
     private String ownerName;
 
     @Enumerated(EnumType.STRING)
     private EventStatus status;
+
+    // Read-only
+    private Instant createdAt;
+
+    // Read-only
+    private Instant updatedAt;
 }
 
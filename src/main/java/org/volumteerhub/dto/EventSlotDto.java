@@ -0,0 +1,40 @@
+package org.volumteerhub.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.volumteerhub.common.validation.OnCreate;
+import org.volumteerhub.common.validation.OnUpdate;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+public class EventSlotDto {
+
+    // Read-only
+    private UUID id;
+
+    @NotBlank(groups = OnCreate.class)
+    private String name;
+
+    @NotNull(groups = OnCreate.class)
+    private Instant startTime;
+
+    @NotNull(groups = OnCreate.class)
+    private Instant endTime;
+
+    @NotNull(groups = OnCreate.class)
+    @Min(value = 1, groups = {OnCreate.class, OnUpdate.class})
+    private Integer capacity;
+
+    // Read-only
+    private Integer seatsTaken;
+
+    // Read-only
+    private Integer freeSeats;
+
+    // Read-only, true if the current user signed up for this slot
+    private boolean joined;
+}
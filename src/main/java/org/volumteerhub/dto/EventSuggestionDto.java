@@ -0,0 +1,22 @@
+package org.volumteerhub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSuggestionDto {
+
+    public enum Type { NAME, LOCATION }
+
+    private String text;
+
+    private Type type;
+
+    // Only set for NAME suggestions
+    private UUID eventId;
+}
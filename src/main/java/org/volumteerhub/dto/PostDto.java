@@ -4,11 +4,13 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
 import org.springframework.hateoas.server.core.Relation;
+import org.volumteerhub.common.enumeration.ReactionType;
 import org.volumteerhub.common.validation.OnCreate;
 import org.volumteerhub.common.validation.OnUpdate;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Data
@@ -30,4 +32,7 @@ public class PostDto {
     private List<String> mediaFilenames;
 
     private List<String> mediaUrls;
+
+    // Filled on feed reads only
+    private Map<ReactionType, Long> reactionCounts;
 }
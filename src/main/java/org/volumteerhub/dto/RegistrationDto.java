@@ -8,6 +8,7 @@ import org.springframework.hateoas.server.core.Relation;
 import org.volumteerhub.common.enumeration.RegistrationStatus;
 import org.volumteerhub.common.validation.OnCreate;
 
+import java.time.Instant;
 import java.util.UUID;
 
 @Data
@@ -28,4 +29,6 @@ public class RegistrationDto {
 
     @Enumerated(EnumType.STRING)
     private RegistrationStatus status;
+
+    private Instant createdAt;
 }
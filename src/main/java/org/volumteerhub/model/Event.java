@@ -2,23 +2,34 @@ package org.volumteerhub.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import org.volumteerhub.common.enumeration.EventStatus;
+import org.volumteerhub.util.StringUtil;
 
 import java.time.Instant;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Entity
-@Table(name = "event")
+@Table(name = "event", indexes = {
+        // Keyset pagination over (createdAt, id)
+        @Index(name = "idx_event_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_event_status_created_at_id", columnList = "status, created_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @EntityListeners(AuditingEntityListener.class)
+// Only write changed columns, so saving an event never overwrites seatsTaken
+@DynamicUpdate
 public class Event {
 
     @Id
@@ -32,6 +43,9 @@ public class Event {
     @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Registration> registrations;
 
+    @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<EventSlot> slots;
+
     @Column(nullable = false)
     private String name;
 
@@ -55,6 +69,19 @@ public class Event {
     @Builder.Default
     private EventStatus status = EventStatus.DRAFT;
 
+    // Null means unlimited
+    @Column(name = "max_participants")
+    private Integer maxParticipants;
+
+    // Seat-holding registrations, only changed through EventRepository's conditional updates
+    @Column(name = "seats_taken", nullable = false, columnDefinition = "integer default 0")
+    @Builder.Default
+    private Integer seatsTaken = 0;
+
+    // Diacritic-folded name, description and location, trigram-indexed for search
+    @Column(name = "search_text", columnDefinition = "TEXT")
+    private String searchText;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
@@ -62,4 +89,22 @@ public class Event {
     @LastModifiedDate
     @Column(nullable = false)
     private Instant updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    public void refreshSearchText() {
+        searchText = foldedSearchText();
+    }
+
+    public String foldedSearchText() {
+        return foldedSearchText(name, description, location);
+    }
+
+    public static String foldedSearchText(String name, String description, String location) {
+        return StringUtil.foldForSearch(
+                Stream.of(name, description, location)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.joining(" "))
+        );
+    }
 }
@@ -0,0 +1,66 @@
+package org.volumteerhub.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A shift inside an event, with its own time window and capacity.
+ */
+@Entity
+@Table(name = "event_slot", indexes = {
+        @Index(name = "idx_event_slot_event_start", columnList = "event_id, start_time")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+// Only write changed columns, so saving a slot never overwrites seatsTaken
+@DynamicUpdate
+public class EventSlot {
+
+    @Id
+    @GeneratedValue
+    private UUID id;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id", nullable = false)
+    private Event event;
+
+    @OneToMany(mappedBy = "slot", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<SlotSignup> signups;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false, name = "start_time")
+    private Instant startTime;
+
+    @Column(nullable = false, name = "end_time")
+    private Instant endTime;
+
+    @Column(nullable = false)
+    private Integer capacity;
+
+    // Only changed through EventSlotRepository's conditional updates
+    @Column(name = "seats_taken", nullable = false, columnDefinition = "integer default 0")
+    @Builder.Default
+    private Integer seatsTaken = 0;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @LastModifiedDate
+    @Column(nullable = false)
+    private Instant updatedAt;
+}
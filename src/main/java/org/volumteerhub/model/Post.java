@@ -11,7 +11,10 @@ import java.util.UUID;
 import java.util.List;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        // Keyset pagination of an event wall over (createdAt, id)
+        @Index(name = "idx_posts_event_created_at_id", columnList = "event_id, created_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
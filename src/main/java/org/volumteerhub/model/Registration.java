@@ -13,6 +13,13 @@ import java.util.UUID;
 @Entity
 @Table(name = "registration", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"user_id", "event_id"})
+}, indexes = {
+        // Keyset pagination over (createdAt, id)
+        @Index(name = "idx_registration_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_registration_event_created_at_id", columnList = "event_id, created_at, id"),
+        @Index(name = "idx_registration_user_created_at_id", columnList = "user_id, created_at, id"),
+        // Manager listing of an event's volunteers by status
+        @Index(name = "idx_registration_event_status", columnList = "event_id, status")
 })
 @Getter
 @Setter
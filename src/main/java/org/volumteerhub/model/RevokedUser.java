@@ -0,0 +1,28 @@
+package org.volumteerhub.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Tombstone of a deleted user, so their still-unexpired tokens stay rejected after a restart.
+ */
+@Entity
+@Table(name = "revoked_user")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevokedUser {
+
+    // Not a foreign key: the user row is gone
+    @Id
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Column(nullable = false)
+    private Instant revokedAt;
+}
@@ -1,15 +1,70 @@
 package org.volumteerhub.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.volumteerhub.common.enumeration.EventStatus;
+import org.volumteerhub.common.enumeration.RegistrationStatus;
 import org.volumteerhub.model.Event;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.List;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, UUID>, JpaSpecificationExecutor<Event> {
 
+    // Event DTOs always show the owner name, fetch it in the same query
+    String OWNER_GRAPH = "owner";
+
+    @Override
+    @EntityGraph(attributePaths = OWNER_GRAPH)
+    Optional<Event> findById(UUID id);
+
+    @Override
+    @EntityGraph(attributePaths = OWNER_GRAPH)
+    Page<Event> findAll(Specification<Event> spec, Pageable pageable);
+
     List<Event> findByOwnerId(UUID ownerId);
+
+    List<Event> findByStatus(EventStatus status);
+
+    @EntityGraph(attributePaths = OWNER_GRAPH)
+    List<Event> findByIdIn(Collection<UUID> ids);
+
+
+    /**
+     * Takes a seat if one is free. The row lock is only held until the caller's transaction commits.
+     * @return 1 if a seat was taken, 0 if the event is full.
+     */
+    @Modifying
+    @Query("UPDATE Event e SET e.seatsTaken = e.seatsTaken + 1, e.updatedAt = :now " +
+            "WHERE e.id = :id AND (e.maxParticipants IS NULL OR e.seatsTaken < e.maxParticipants)")
+    int tryTakeSeat(@Param("id") UUID id, @Param("now") Instant now);
+
+    @Modifying
+    @Query("UPDATE Event e SET e.seatsTaken = e.seatsTaken - 1, e.updatedAt = :now " +
+            "WHERE e.id = :id AND e.seatsTaken > 0")
+    int releaseSeat(@Param("id") UUID id, @Param("now") Instant now);
+
+    @Modifying
+    @Query("UPDATE Event e SET e.seatsTaken = " +
+            "(SELECT COUNT(r) FROM Registration r WHERE r.event.id = :id AND r.status IN :statuses), " +
+            "e.updatedAt = :now WHERE e.id = :id")
+    int resyncSeats(@Param("id") UUID id,
+                    @Param("statuses") Collection<RegistrationStatus> statuses,
+                    @Param("now") Instant now);
+
+    @Query("SELECT new org.volumteerhub.repository.EventVersion(e.status, e.owner.id, e.updatedAt) " +
+            "FROM Event e WHERE e.id = :id")
+    Optional<EventVersion> findVersionById(@Param("id") UUID id);
 }
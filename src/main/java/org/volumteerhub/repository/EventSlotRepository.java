@@ -0,0 +1,39 @@
+package org.volumteerhub.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.volumteerhub.model.EventSlot;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface EventSlotRepository extends JpaRepository<EventSlot, UUID> {
+
+    // Free seats come from the per-slot counters, one index range scan for the whole event
+    List<EventSlot> findByEventIdOrderByStartTimeAscIdAsc(UUID eventId);
+
+    Optional<EventSlot> findByIdAndEventId(UUID id, UUID eventId);
+
+    /**
+     * @return 1 if a seat was taken, 0 if the slot is full.
+     */
+    @Modifying
+    @Query("UPDATE EventSlot s SET s.seatsTaken = s.seatsTaken + 1 WHERE s.id = :id AND s.seatsTaken < s.capacity")
+    int tryTakeSeat(@Param("id") UUID id);
+
+    @Modifying
+    @Query("UPDATE EventSlot s SET s.seatsTaken = s.seatsTaken - 1 WHERE s.id = :id AND s.seatsTaken > 0")
+    int releaseSeat(@Param("id") UUID id);
+
+    /**
+     * @return 0 if more seats than the new capacity are already taken.
+     */
+    @Modifying
+    @Query("UPDATE EventSlot s SET s.capacity = :capacity WHERE s.id = :id AND s.seatsTaken <= :capacity")
+    int updateCapacity(@Param("id") UUID id, @Param("capacity") int capacity);
+}
@@ -0,0 +1,12 @@
+package org.volumteerhub.repository;
+
+import org.volumteerhub.common.enumeration.EventStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * What a conditional GET needs from an event: visibility and last modification time.
+ */
+public record EventVersion(EventStatus status, UUID ownerId, Instant updatedAt) {
+}
@@ -0,0 +1,7 @@
+package org.volumteerhub.repository;
+
+import java.util.UUID;
+
+public interface PostReactionCountProjection extends ReactionCountProjection {
+    UUID getPostId();
+}
@@ -2,18 +2,43 @@ package org.volumteerhub.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.volumteerhub.model.Post;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, UUID> {
 
+    // Feed reads always show the author, fetch it in the same query
+    @EntityGraph(attributePaths = "user")
     Page<Post> findByEventId(UUID eventId, Pageable pageable);
 
+    // Keyset pagination: Slice return type fetches one extra row instead of running a count
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT p FROM Post p WHERE p.event.id = :eventId ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findFirstSliceByEventId(@Param("eventId") UUID eventId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT p FROM Post p WHERE p.event.id = :eventId " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findSliceByEventIdBefore(@Param("eventId") UUID eventId,
+                                         @Param("createdAt") Instant createdAt,
+                                         @Param("id") UUID id,
+                                         Pageable pageable);
+
+    @Query("SELECT p.updatedAt FROM Post p WHERE p.id = :id")
+    Optional<Instant> findUpdatedAtById(@Param("id") UUID id);
+
     List<Post> getPostsByEventId(UUID eventId);
     List<Post> getPostsByUserId(UUID userId);
     List<Post> getPostsByEventIdAndUserId(UUID eventId, UUID userId);
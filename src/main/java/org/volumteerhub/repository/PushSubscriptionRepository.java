@@ -3,10 +3,16 @@ package org.volumteerhub.repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.volumteerhub.model.PushSubscription;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface PushSubscriptionRepository extends JpaRepository<PushSubscription, UUID> {
 
     Optional<PushSubscription> findByEndpoint(String endpoint);
+
+    List<PushSubscription> findByUserId(UUID userId);
+
+    List<PushSubscription> findByUserIdIn(Collection<UUID> userIds);
 }
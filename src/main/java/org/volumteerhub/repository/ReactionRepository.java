@@ -7,6 +7,7 @@ import org.springframework.stereotype.Repository;
 import org.volumteerhub.common.enumeration.ReactionType;
 import org.volumteerhub.model.PostReaction;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -33,4 +34,28 @@ public interface ReactionRepository extends JpaRepository<PostReaction, UUID> {
                         ReactionCountProjection::getCount
                 ));
     }
+
+    @Query("SELECT r.post.id AS postId, r.reactionType AS reactionType, COUNT(r) AS count " +
+            "FROM PostReaction r " +
+            "WHERE r.post.id IN :postIds " +
+            "GROUP BY r.post.id, r.reactionType")
+    List<PostReactionCountProjection> countReactionsByPostIdsGroupedByTypeProjection(
+            @Param("postIds") Collection<UUID> postIds);
+
+    /**
+     * Same as {@link #countReactionsByPostIdGroupedByType(UUID)} for a whole page of posts in one query.
+     */
+    default Map<UUID, Map<ReactionType, Long>> countReactionsByPostIdsGroupedByType(Collection<UUID> postIds) {
+        List<PostReactionCountProjection> projections =
+                countReactionsByPostIdsGroupedByTypeProjection(postIds);
+
+        return projections.stream()
+                .collect(Collectors.groupingBy(
+                        PostReactionCountProjection::getPostId,
+                        Collectors.toMap(
+                                ReactionCountProjection::getReactionType,
+                                ReactionCountProjection::getCount
+                        )
+                ));
+    }
 }
@@ -1,19 +1,29 @@
 package org.volumteerhub.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.volumteerhub.common.enumeration.EventStatus;
 import org.volumteerhub.common.enumeration.RegistrationStatus;
 import org.volumteerhub.model.Event;
 import org.volumteerhub.model.Registration;
 import org.volumteerhub.model.User;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface RegistrationRepository extends JpaRepository<Registration, UUID>, JpaSpecificationExecutor<Registration> {
+public interface RegistrationRepository extends JpaRepository<Registration, UUID>, JpaSpecificationExecutor<Registration>,
+        RegistrationSummaryRepository {
 
     List<Registration> findByUserId(UUID userId);
 
@@ -21,9 +31,42 @@ public interface RegistrationRepository extends JpaRepository<Registration, UUID
 
     Optional<Registration> findByUserIdAndEventId(UUID userId, UUID eventId);
 
+    // Serializes one volunteer's slot changes within an event
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Registration> findForUpdateByUserIdAndEventId(UUID userId, UUID eventId);
+
     List<Registration> findByStatus(RegistrationStatus status);
 
     List<Registration> findByStatusAndEventId(RegistrationStatus status, UUID eventId);
 
     Optional<Registration> getByUserAndEvent(User volunteer, Event event);
+
+    long countByEventIdAndStatusIn(UUID eventId, Collection<RegistrationStatus> statuses);
+
+    /**
+     * Inserts the registration unless the volunteer already has one for the event.
+     * @return the new id, or empty if the row already existed.
+     */
+    @Transactional
+    @Query(value = "INSERT INTO registration (id, user_id, event_id, status, created_at, updated_at) " +
+            "VALUES (gen_random_uuid(), :userId, :eventId, :status, :now, :now) " +
+            "ON CONFLICT (user_id, event_id) DO NOTHING RETURNING id", nativeQuery = true)
+    Optional<UUID> insertIfAbsent(@Param("userId") UUID userId,
+                                  @Param("eventId") UUID eventId,
+                                  @Param("status") String status,
+                                  @Param("now") Instant now);
+
+    @Modifying
+    @Query("UPDATE Registration r SET r.status = :status WHERE r.id = :id")
+    int updateStatus(@Param("id") UUID id, @Param("status") RegistrationStatus status);
+
+    // Oldest waitlisted registration; concurrent promotions skip rows another transaction holds
+    @Query(value = "SELECT * FROM registration WHERE event_id = :eventId AND status = 'WAITLISTED' " +
+            "ORDER BY created_at, id LIMIT 1 FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<Registration> lockNextWaitlisted(@Param("eventId") UUID eventId);
+
+    @Query("SELECT r.event.id AS eventId, COUNT(r) AS count FROM Registration r " +
+            "WHERE r.event.status = :status AND r.status IN :statuses GROUP BY r.event.id")
+    List<EventRegistrationCountProjection> countByEventStatus(@Param("status") EventStatus status,
+                                                              @Param("statuses") Collection<RegistrationStatus> statuses);
 }
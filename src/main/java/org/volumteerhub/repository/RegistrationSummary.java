@@ -0,0 +1,20 @@
+package org.volumteerhub.repository;
+
+import org.volumteerhub.common.enumeration.RegistrationStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Flat read model of a registration with the volunteer and event columns the listing shows.
+ */
+public record RegistrationSummary(
+        UUID id,
+        RegistrationStatus status,
+        Instant createdAt,
+        UUID userId,
+        String username,
+        UUID eventId,
+        String eventName
+) {
+}
@@ -0,0 +1,20 @@
+package org.volumteerhub.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.volumteerhub.model.Registration;
+
+import java.util.List;
+
+/**
+ * Projection queries over registrations: one SQL statement joining users and events,
+ * filtered by the same specifications as the entity queries.
+ */
+public interface RegistrationSummaryRepository {
+
+    Page<RegistrationSummary> findSummaries(Specification<Registration> spec, Pageable pageable);
+
+    List<RegistrationSummary> findSummaries(Specification<Registration> spec, Sort sort, int limit);
+}
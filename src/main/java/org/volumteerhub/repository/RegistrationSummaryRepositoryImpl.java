@@ -0,0 +1,79 @@
+package org.volumteerhub.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.volumteerhub.model.Event;
+import org.volumteerhub.model.Registration;
+import org.volumteerhub.model.User;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+class RegistrationSummaryRepositoryImpl implements RegistrationSummaryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<RegistrationSummary> findSummaries(Specification<Registration> spec, Pageable pageable) {
+        List<RegistrationSummary> content = select(
+                spec, pageable.getSort(), (int) pageable.getOffset(), pageable.getPageSize());
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<RegistrationSummary> findSummaries(Specification<Registration> spec, Sort sort, int limit) {
+        return select(spec, sort, 0, limit);
+    }
+
+    private List<RegistrationSummary> select(Specification<Registration> spec, Sort sort, int offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<RegistrationSummary> query = cb.createQuery(RegistrationSummary.class);
+        Root<Registration> root = query.from(Registration.class);
+        Join<Registration, User> user = root.join("user");
+        Join<Registration, Event> event = root.join("event");
+
+        query.select(cb.construct(RegistrationSummary.class,
+                root.get("id"),
+                root.get("status"),
+                root.get("createdAt"),
+                user.get("id"),
+                user.get("username"),
+                event.get("id"),
+                event.get("name")
+        ));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private long count(Specification<Registration> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Registration> root = query.from(Registration.class);
+
+        query.select(cb.count(root));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
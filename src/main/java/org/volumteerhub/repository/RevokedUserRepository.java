@@ -0,0 +1,21 @@
+package org.volumteerhub.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.volumteerhub.model.RevokedUser;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface RevokedUserRepository extends JpaRepository<RevokedUser, UUID> {
+
+    @Query("SELECT r.userId FROM RevokedUser r")
+    List<UUID> findAllUserIds();
+
+    @Query("SELECT r.userId FROM RevokedUser r WHERE r.revokedAt < :cutoff")
+    List<UUID> findUserIdsRevokedBefore(@Param("cutoff") Instant cutoff);
+}
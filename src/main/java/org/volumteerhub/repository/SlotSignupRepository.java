@@ -0,0 +1,33 @@
+package org.volumteerhub.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.volumteerhub.model.SlotSignup;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+@Repository
+public interface SlotSignupRepository extends JpaRepository<SlotSignup, UUID> {
+
+    Optional<SlotSignup> findBySlotIdAndUserId(UUID slotId, UUID userId);
+
+    List<SlotSignup> findBySlotEventIdAndUserId(UUID eventId, UUID userId);
+
+    List<SlotSignup> findByUserId(UUID userId);
+
+    @Query("SELECT s.slot.id FROM SlotSignup s WHERE s.slot.event.id = :eventId AND s.user.id = :userId")
+    Set<UUID> findSlotIdsByEventIdAndUserId(@Param("eventId") UUID eventId, @Param("userId") UUID userId);
+
+    @Query("SELECT COUNT(s) > 0 FROM SlotSignup s WHERE s.slot.event.id = :eventId AND s.user.id = :userId " +
+            "AND s.slot.startTime < :endTime AND s.slot.endTime > :startTime")
+    boolean existsOverlapping(@Param("eventId") UUID eventId,
+                              @Param("userId") UUID userId,
+                              @Param("startTime") Instant startTime,
+                              @Param("endTime") Instant endTime);
+}
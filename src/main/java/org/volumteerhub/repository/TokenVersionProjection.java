@@ -0,0 +1,8 @@
+package org.volumteerhub.repository;
+
+import java.util.UUID;
+
+public interface TokenVersionProjection {
+    UUID getId();
+    Integer getTokenVersion();
+}
@@ -2,10 +2,13 @@ package org.volumteerhub.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.volumteerhub.common.enumeration.UserRole;
 import org.volumteerhub.model.User;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,4 +21,13 @@ public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificat
     boolean existsByUsername(String username);
 
     List<User> findByRole(UserRole role);
+
+    @Query("SELECT u.id FROM User u WHERE u.role = :role")
+    List<UUID> findIdsByRole(@Param("role") UserRole role);
+
+    @Query("SELECT u.id AS id, u.tokenVersion AS tokenVersion FROM User u WHERE u.tokenVersion > 0")
+    List<TokenVersionProjection> findRevokedTokenVersions();
+
+    @Query("SELECT u.updatedAt FROM User u WHERE u.id = :id")
+    Optional<Instant> findUpdatedAtById(@Param("id") UUID id);
 }
@@ -1,8 +1,9 @@
 package org.volumteerhub.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.volumteerhub.common.exception.ServiceUnavailableException;
 import org.volumteerhub.dto.ApiResponse;
 import org.volumteerhub.dto.LoginRequest;
 import org.volumteerhub.dto.LoginResponse;
@@ -10,21 +11,41 @@ import org.volumteerhub.model.User;
 import org.volumteerhub.repository.UserRepository;
 import org.volumteerhub.util.JwtUtil;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
 
     public ApiResponse login(LoginRequest request) {
         User user = userRepository.findByUsername(request.getUsername()).orElse(null);
 
-        if (user == null || !passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        if (user == null || !passwordHashingService.matches(request.getPassword(), user.getPasswordHash())) {
             throw new RuntimeException("Invalid username or password. Please try again.");
         }
 
-        String token = JwtUtil.generateToken(user.getUsername());
+        upgradePasswordHash(user, request.getPassword());
+
+        String token = JwtUtil.generateToken(user);
         return new LoginResponse(token, user.getUsername());
     }
+
+    /**
+     * Re-hashes the password with the configured cost factor after a successful login.
+     * Skipped when the hashing pool is saturated, the next login will try again.
+     */
+    private void upgradePasswordHash(User user, String rawPassword) {
+        if (!passwordHashingService.needsUpgrade(user.getPasswordHash())) {
+            return;
+        }
+
+        try {
+            user.setPasswordHash(passwordHashingService.encode(rawPassword));
+            userRepository.save(user);
+        } catch (ServiceUnavailableException e) {
+            log.debug("Skipping password hash upgrade for {}: hashing pool busy", user.getUsername());
+        }
+    }
 }
@@ -0,0 +1,174 @@
+package org.volumteerhub.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.volumteerhub.common.enumeration.RegistrationStatus;
+import org.volumteerhub.model.Event;
+import org.volumteerhub.model.Registration;
+import org.volumteerhub.model.SlotSignup;
+import org.volumteerhub.repository.EventRepository;
+import org.volumteerhub.repository.EventSlotRepository;
+import org.volumteerhub.repository.RegistrationRepository;
+import org.volumteerhub.repository.SlotSignupRepository;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Seat accounting for events with maxParticipants. Seats are taken with a conditional
+ * UPDATE on the event row, so there is no read-then-write race and the row lock lasts
+ * only until the joining transaction commits. Freed seats go to the waitlist in join order.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventCapacityService {
+
+    public static final Set<RegistrationStatus> SEAT_HOLDING =
+            EnumSet.of(RegistrationStatus.PENDING, RegistrationStatus.APPROVED, RegistrationStatus.COMPLETED);
+
+    private final EventRepository eventRepository;
+    private final RegistrationRepository registrationRepository;
+    private final EventSlotRepository eventSlotRepository;
+    private final SlotSignupRepository slotSignupRepository;
+    private final NotificationDispatcherService notificationDispatcherService;
+    private final CacheManager cacheManager;
+    private final EntityManager entityManager;
+    private final EventSuggestionIndex eventSuggestionIndex;
+    private final EventListingCache eventListingCache;
+
+    public static boolean holdsSeat(RegistrationStatus status) {
+        return SEAT_HOLDING.contains(status);
+    }
+
+    /**
+     * Call as the last write of the joining transaction to keep the row lock short.
+     * @return false if the event is full.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean tryTakeSeat(UUID eventId) {
+        boolean taken = eventRepository.tryTakeSeat(eventId, Instant.now()) == 1;
+        if (taken) {
+            afterCommit(eventId, 1);
+        }
+        return taken;
+    }
+
+    /**
+     * Frees a seat and hands it to the oldest waitlisted registration, if any.
+     * The event row stays locked until commit, so new joiners cannot jump the queue.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void releaseSeat(UUID eventId) {
+        int released = eventRepository.releaseSeat(eventId, Instant.now());
+        int promoted = promoteWaitlisted(eventId);
+        afterCommit(eventId, promoted - released);
+    }
+
+    /**
+     * Removes every registration and slot sign-up of a user about to be deleted, giving their
+     * seats back (and to the waitlist). The user's cascade would otherwise drop the rows
+     * without touching the counters.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void releaseAllOf(UUID userId) {
+        List<SlotSignup> signups = slotSignupRepository.findByUserId(userId);
+        for (SlotSignup signup : signups) {
+            eventSlotRepository.releaseSeat(signup.getSlot().getId());
+        }
+        slotSignupRepository.deleteAll(signups);
+
+        List<Registration> registrations = registrationRepository.findByUserId(userId);
+        registrationRepository.deleteAll(registrations);
+        // Gone before promoting, so the user's own waitlisted rows can't take the freed seats
+        entityManager.flush();
+
+        for (Registration registration : registrations) {
+            if (holdsSeat(registration.getStatus())) {
+                releaseSeat(registration.getEvent().getId());
+            }
+        }
+    }
+
+    /**
+     * Recounts seats after maxParticipants changed and promotes into any new room.
+     * Refreshes the given entity, which must be managed by the caller's transaction,
+     * so callers see the new counter.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void resync(Event event) {
+        eventRepository.resyncSeats(event.getId(), SEAT_HOLDING, Instant.now());
+        int promoted = promoteWaitlisted(event.getId());
+        entityManager.refresh(event);
+        afterCommit(event.getId(), promoted);
+    }
+
+    /**
+     * @return the number of waitlisted registrations that got a seat.
+     */
+    private int promoteWaitlisted(UUID eventId) {
+        int promoted = 0;
+        while (eventRepository.tryTakeSeat(eventId, Instant.now()) == 1) {
+            Optional<Registration> next = registrationRepository.lockNextWaitlisted(eventId);
+            if (next.isEmpty()) {
+                eventRepository.releaseSeat(eventId, Instant.now());
+                return promoted;
+            }
+            promoted++;
+
+            Registration registration = next.get();
+            registration.setStatus(RegistrationStatus.PENDING);
+            log.info("Registration {} promoted from waitlist of event {}", registration.getId(), eventId);
+
+            notificationDispatcherService.sendToUsers(
+                    List.of(registration.getUser()),
+                    "Đã có chỗ trống",
+                    "Bạn đã được chuyển từ danh sách chờ sang danh sách đăng ký, bấm để xem thêm.",
+                    "/event/" + eventId
+            );
+        }
+        return promoted;
+    }
+
+    /**
+     * Evicts the cached event and the listing pages showing it, and moves its suggestion
+     * ranking once the seat change is committed. Evicting earlier would let a concurrent
+     * read cache the old row again.
+     */
+    private void afterCommit(UUID eventId, int seatDelta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applySeatChange(eventId, seatDelta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applySeatChange(eventId, seatDelta);
+            }
+        });
+    }
+
+    private void applySeatChange(UUID eventId, int seatDelta) {
+        Cache cache = cacheManager.getCache(EventService.EVENTS_CACHE);
+        if (cache != null) {
+            cache.evict(eventId);
+        }
+        // Listing pages show seatsTaken too
+        eventListingCache.purgeEvent(eventId);
+        if (seatDelta != 0) {
+            eventSuggestionIndex.adjustRegistrations(eventId, seatDelta);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package org.volumteerhub.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.volumteerhub.dto.EventDto;
+import org.volumteerhub.util.StringUtil;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Shared cache of APPROVED event listing pages, which are identical for every caller.
+ * Bounded by an estimated byte budget; each entry is tagged with the events it contains
+ * so a change to one event only purges the pages that show it.
+ */
+@Slf4j
+@Component
+public class EventListingCache {
+
+    private static final String CACHE_NAME = "eventListings";
+
+    private final Cache<String, Page<EventDto>> pages;
+    private final ConcurrentHashMap<UUID, Set<String>> keysByEvent = new ConcurrentHashMap<>();
+
+    // Searched or explicitly sorted pages, which any event's content change can reorder
+    private final Set<String> contentDependentKeys = ConcurrentHashMap.newKeySet();
+
+    // Bumped by every purge, so a page loaded while a purge ran is not kept
+    private final AtomicLong generation = new AtomicLong();
+
+    public EventListingCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.event-listings.max-bytes:33554432}") long maxBytes,
+            @Value("${app.cache.event-listings.ttl-seconds:60}") long ttlSeconds) {
+
+        this.pages = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher(EventListingCache::estimateBytes)
+                // Deletes shift later pages without touching their tags, the TTL bounds that staleness
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .removalListener(this::untag)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, CACHE_NAME);
+        Gauge.builder("cache.hit.ratio", pages, cache -> cache.stats().hitRate())
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached page for these parameters, loading and tagging it on a miss.
+     */
+    public Page<EventDto> get(UUID ownerId, String search, Pageable pageable, Supplier<Page<EventDto>> loader) {
+        String key = key(ownerId, search, pageable);
+        boolean contentDependent = !StringUtil.foldForSearch(search).isBlank() || pageable.getSort().isSorted();
+        long startGeneration = generation.get();
+
+        Page<EventDto> page = pages.get(key, k -> {
+            Page<EventDto> loaded = loader.get();
+            loaded.forEach(event -> keysByEvent.computeIfAbsent(event.getId(), id -> ConcurrentHashMap.newKeySet()).add(k));
+            if (contentDependent) {
+                contentDependentKeys.add(k);
+            }
+            return loaded;
+        });
+
+        if (generation.get() != startGeneration) {
+            pages.invalidate(key);
+        }
+        return page;
+    }
+
+    /**
+     * Drops every page showing the event, e.g. after it was deleted.
+     */
+    public void purgeEvent(UUID eventId) {
+        generation.incrementAndGet();
+        Set<String> keys = keysByEvent.remove(eventId);
+        if (keys != null) {
+            pages.invalidateAll(keys);
+        }
+    }
+
+    /**
+     * Content changes of an APPROVED event can also move it into other searches or
+     * sort positions, so searched and explicitly sorted pages go too.
+     */
+    public void purgeEventContent(UUID eventId) {
+        purgeEvent(eventId);
+        pages.invalidateAll(Set.copyOf(contentDependentKeys));
+    }
+
+    /**
+     * A newly approved event can land on any page.
+     */
+    public void purgeAll() {
+        generation.incrementAndGet();
+        pages.invalidateAll();
+        keysByEvent.clear();
+        contentDependentKeys.clear();
+    }
+
+    private void untag(String key, Page<EventDto> page, RemovalCause cause) {
+        if (key == null || page == null || cause == RemovalCause.REPLACED) {
+            return;
+        }
+        contentDependentKeys.remove(key);
+        page.forEach(event -> keysByEvent.computeIfPresent(event.getId(), (id, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        }));
+    }
+
+    private static String key(UUID ownerId, String search, Pageable pageable) {
+        return "owner=" + (ownerId != null ? ownerId : "") +
+                "|search=" + StringUtil.foldForSearch(search) +
+                "|page=" + pageable.getPageNumber() +
+                "|size=" + pageable.getPageSize() +
+                "|sort=" + pageable.getSort();
+    }
+
+    // Rough retained size: strings are 2 bytes per char plus fixed per-object overhead
+    private static int estimateBytes(String key, Page<EventDto> page) {
+        long bytes = 128 + 2L * key.length();
+        for (EventDto event : page.getContent()) {
+            bytes += 256 + 2L * (length(event.getName()) + length(event.getDescription())
+                    + length(event.getLocation()) + length(event.getOwnerName()));
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
@@ -0,0 +1,213 @@
+package org.volumteerhub.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.volumteerhub.common.enumeration.EventStatus;
+import org.volumteerhub.model.Event;
+import org.volumteerhub.repository.EventRepository;
+import org.volumteerhub.util.StringUtil;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process trigram inverted index over APPROVED events, so public discovery
+ * searches don't hit the database. Matches the same way as the SQL search:
+ * every folded query word must be a substring of the folded event text.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventSearchIndex {
+
+    private static final int GRAM = 3;
+
+    private final EventRepository eventRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Document> documents = new HashMap<>();
+    private final Map<String, Set<UUID>> postings = new HashMap<>();
+
+    private volatile boolean ready;
+
+    private record Document(UUID id, String text, Instant createdAt, Set<String> grams) {
+    }
+
+    private record Hit(UUID id, int score, Instant createdAt) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        List<Event> approved = eventRepository.findByStatus(EventStatus.APPROVED);
+
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            approved.forEach(this::add);
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Event search index built with {} events, {} trigrams", approved.size(), postings.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Adds, refreshes or drops the event depending on whether it is APPROVED.
+     */
+    public void reindex(Event event) {
+        lock.writeLock().lock();
+        try {
+            remove(event.getId());
+            if (event.getStatus() == EventStatus.APPROVED) {
+                add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void evict(UUID eventId) {
+        lock.writeLock().lock();
+        try {
+            remove(eventId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return ids of matching approved events, best match first, then newest first.
+     */
+    public List<UUID> search(String search) {
+        String folded = StringUtil.foldForSearch(search);
+        if (folded.isEmpty()) {
+            return List.of();
+        }
+        String[] terms = folded.split(" ");
+
+        lock.readLock().lock();
+        try {
+            List<Hit> hits = new ArrayList<>();
+            for (UUID id : candidates(terms)) {
+                Document document = documents.get(id);
+                int score = score(document.text(), terms);
+                if (score >= 0) {
+                    hits.add(new Hit(id, score, document.createdAt()));
+                }
+            }
+
+            hits.sort(Comparator.comparingInt(Hit::score).reversed()
+                    .thenComparing(Hit::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(Hit::id, Comparator.reverseOrder()));
+
+            return hits.stream().map(Hit::id).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Intersects the posting lists of all query trigrams, smallest first
+    private Collection<UUID> candidates(String[] terms) {
+        List<Set<UUID>> lists = new ArrayList<>();
+        for (String term : terms) {
+            for (String gram : grams(term)) {
+                Set<UUID> list = postings.get(gram);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+        }
+
+        // Only words shorter than a trigram: verify every document
+        if (lists.isEmpty()) {
+            return documents.keySet();
+        }
+
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<UUID> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * @return -1 if a term is missing, otherwise higher for whole-word and word-prefix matches.
+     */
+    private static int score(String text, String[] terms) {
+        int score = 0;
+        for (String term : terms) {
+            int best = -1;
+            for (int at = text.indexOf(term); at >= 0; at = text.indexOf(term, at + 1)) {
+                boolean wordStart = at == 0 || text.charAt(at - 1) == ' ';
+                int end = at + term.length();
+                boolean wordEnd = end == text.length() || text.charAt(end) == ' ';
+                best = Math.max(best, wordStart ? (wordEnd ? 2 : 1) : 0);
+                if (best == 2) {
+                    break;
+                }
+            }
+            if (best < 0) {
+                return -1;
+            }
+            score += best;
+        }
+        return score;
+    }
+
+    private void add(Event event) {
+        String text = event.foldedSearchText();
+        Set<String> grams = new HashSet<>();
+        for (String word : text.split(" ")) {
+            grams.addAll(grams(word));
+        }
+
+        documents.put(event.getId(), new Document(event.getId(), text, event.getCreatedAt(), grams));
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, g -> new HashSet<>()).add(event.getId());
+        }
+    }
+
+    private void remove(UUID eventId) {
+        Document document = documents.remove(eventId);
+        if (document == null) {
+            return;
+        }
+        for (String gram : document.grams()) {
+            Set<UUID> list = postings.get(gram);
+            if (list != null && list.remove(eventId) && list.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static List<String> grams(String word) {
+        if (word.length() < GRAM) {
+            return List.of();
+        }
+        List<String> grams = new ArrayList<>(word.length() - GRAM + 1);
+        for (int i = 0; i + GRAM <= word.length(); i++) {
+            grams.add(word.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+}
@@ -1,31 +1,58 @@
 package org.volumteerhub.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+import org.volumteerhub.config.EventSearchSchema;
 import org.volumteerhub.dto.EventDto;
+import org.volumteerhub.dto.EventSuggestionDto;
 import org.volumteerhub.common.exception.ResourceNotFoundException;
 import org.volumteerhub.common.exception.UnauthorizedAccessException;
 import org.volumteerhub.common.enumeration.EventStatus;
 import org.volumteerhub.model.Event;
 import org.volumteerhub.model.User;
 import org.volumteerhub.repository.EventRepository;
+import org.volumteerhub.repository.EventVersion;
 import org.volumteerhub.specification.EventSpecifications;
+import org.volumteerhub.util.Cursor;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class EventService {
 
+    public static final String EVENTS_CACHE = "events";
+
     private final EventRepository eventRepository;
     private final UserService userService;
     private final NotificationDispatcherService notificationDispatcherService;
+    private final EventSearchSchema eventSearchSchema;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventSuggestionIndex eventSuggestionIndex;
+    private final CacheManager cacheManager;
+    private final EventListingCache eventListingCache;
+    private final RequestCoalescer requestCoalescer;
+    private final EventCapacityService eventCapacityService;
 
     private void validateOwnership(Event event, User currentUser) {
-        if (!event.getOwner().equals(currentUser)) {
+        if (!event.getOwner().getId().equals(currentUser.getId())) {
             throw new UnauthorizedAccessException("User is not the owner of event " + event.getId());
         }
     }
@@ -46,9 +73,13 @@ public class EventService {
         dto.setStartDate(event.getStartDate());
         dto.setEndDate(event.getEndDate());
         dto.setStatus(event.getStatus());
-        dto.setOwnerId(event.getOwner().getId());
+        dto.setMaxParticipants(event.getMaxParticipants());
+        dto.setSeatsTaken(event.getSeatsTaken());
+        dto.setCreatedAt(event.getCreatedAt());
+        dto.setUpdatedAt(event.getUpdatedAt());
 
         if (event.getOwner() != null) {
+            dto.setOwnerId(event.getOwner().getId());
             String ownerName = event.getOwner().getFirstname() + " " + event.getOwner().getLastname();
             dto.setOwnerName(ownerName);
         }
@@ -68,38 +99,157 @@ public class EventService {
                 .dateDeadline(dto.getDateDeadline())
                 .startDate(dto.getStartDate())
                 .endDate(dto.getEndDate())
+                .maxParticipants(dto.getMaxParticipants())
                 .status(EventStatus.DRAFT)
                 .build();
 
         return toDto(eventRepository.save(event));
     }
 
-    // READ BY ID
+    // READ BY ID (cached, visibility is still checked per caller)
     public EventDto get(UUID id) {
-        Event event = findEventById(id);
-        User currentUser = userService.getCurrentAuthenticatedUser();
+        Cache cache = eventCache();
+        EventDto dto = cache.get(id, EventDto.class);
+        if (dto == null) {
+            // A burst of misses for the same event shares one load
+            dto = requestCoalescer.execute("event:" + id, () -> {
+                EventDto loaded = toDto(findEventById(id));
+                // A write committed after this read has already put the newer copy, keep it
+                Cache.ValueWrapper current = cache.putIfAbsent(id, loaded);
+                return current != null && current.get() instanceof EventDto newer ? newer : loaded;
+            });
+        }
+
+        validateVisible(id, dto.getStatus(), dto.getOwnerId());
+        return dto;
+    }
 
-        if (event.getStatus() != EventStatus.APPROVED) {
-            if (!userService.isCurrentUserAdmin()) {
-                validateOwnership(event, currentUser);
+    /**
+     * Last modification time for conditional GETs, without loading or mapping the event.
+     */
+    public Instant getVersion(UUID id) {
+        EventDto cached = eventCache().get(id, EventDto.class);
+        EventVersion version = cached != null
+                ? new EventVersion(cached.getStatus(), cached.getOwnerId(), cached.getUpdatedAt())
+                : eventRepository.findVersionById(id)
+                        .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + id));
+
+        validateVisible(id, version.status(), version.ownerId());
+        return version.updatedAt();
+    }
+
+    private void validateVisible(UUID id, EventStatus status, UUID ownerId) {
+        if (status != EventStatus.APPROVED && !userService.isCurrentUserAdmin()) {
+            UUID currentUserId = userService.getCurrentPrincipal().getId();
+            if (!ownerId.equals(currentUserId)) {
+                throw new UnauthorizedAccessException("User is not the owner of event " + id);
             }
         }
-        return toDto(event);
+    }
+
+    private Cache eventCache() {
+        return Objects.requireNonNull(cacheManager.getCache(EVENTS_CACHE));
+    }
+
+    // Write-through: every mutation replaces the cached copy with the saved state once it commits
+    private EventDto cacheDto(Event event) {
+        EventDto dto = toDto(event);
+        afterCommit(() -> eventCache().put(event.getId(), dto));
+        return dto;
+    }
+
+    /**
+     * Runs the action once the current transaction commits, or right away without one.
+     * Caches and in-memory indexes must only ever see committed state.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     // LIST + FILTER + PAGE
     public Page<EventDto> list(EventStatus status, UUID ownerId, String search, Pageable pageable) {
+        // The APPROVED view doesn't depend on the caller, share it
+        if (status == EventStatus.APPROVED) {
+            return eventListingCache.get(ownerId, search, pageable, () -> loadPage(status, ownerId, search, pageable));
+        }
+        return loadPage(status, ownerId, search, pageable);
+    }
+
+    private Page<EventDto> loadPage(EventStatus status, UUID ownerId, String search, Pageable pageable) {
+        if (isPublicSearch(status, ownerId, search) && pageable.getSort().isUnsorted()) {
+            return listFromSearchIndex(search, pageable);
+        }
+
+        Specification<Event> spec = buildListSpec(status, ownerId, search);
+        // Unsorted searches rank by relevance; the count query drops this ordering
+        if (pageable.getSort().isUnsorted() && StringUtils.hasText(search) && eventSearchSchema.isTrigramAvailable()) {
+            spec = spec.and(EventSpecifications.orderByRelevance(search));
+        }
+        return eventRepository.findAll(spec, pageable).map(this::toDto);
+    }
+
+    // Approved events are visible to everyone, so the in-memory index can answer without security filters
+    private boolean isPublicSearch(EventStatus status, UUID ownerId, String search) {
+        return status == EventStatus.APPROVED
+                && ownerId == null
+                && StringUtils.hasText(search)
+                && eventSearchIndex.isReady();
+    }
+
+    private Page<EventDto> listFromSearchIndex(String search, Pageable pageable) {
+        List<UUID> ranked = eventSearchIndex.search(search);
+
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        List<UUID> pageIds = ranked.subList(from, to);
+
+        Map<UUID, Event> events = eventRepository.findByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+
+        List<EventDto> content = pageIds.stream()
+                .map(events::get)
+                .filter(Objects::nonNull)
+                .map(this::toDto)
+                .toList();
+
+        return new PageImpl<>(content, pageable, ranked.size());
+    }
+
+    // LIST + FILTER + CURSOR (no count query, no OFFSET scan)
+    public Slice<EventDto> listByCursor(EventStatus status, UUID ownerId, String search, String cursor, int size) {
+        Specification<Event> spec = buildListSpec(status, ownerId, search)
+                .and(EventSpecifications.createdBefore(Cursor.decode(cursor)));
+
+        List<Event> events = eventRepository.findBy(spec, query -> query
+                .project(EventRepository.OWNER_GRAPH)
+                .sortBy(Cursor.SORT)
+                .limit(size + 1)
+                .all());
+
+        return Cursor.toSlice(events.stream().map(this::toDto).toList(), size);
+    }
+
+    private Specification<Event> buildListSpec(EventStatus status, UUID ownerId, String search) {
         User currentUser = userService.getCurrentAuthenticatedUser();
 
         Specification<Event> baseFilter = Specification.allOf(
                 EventSpecifications.hasStatus(status),
                 EventSpecifications.hasOwnerId(ownerId),
-                EventSpecifications.nameContains(search)
+                EventSpecifications.searchMatches(search)
         );
 
         // Rule 1: Admin can see everything
         if (userService.isCurrentUserAdmin()) {
-            return eventRepository.findAll(baseFilter, pageable).map(this::toDto);
+            return baseFilter;
         }
 
         Specification<Event> securitySpec = ((root, query, criteriaBuilder) -> {
@@ -116,12 +266,11 @@ public class EventService {
             return criteriaBuilder.or(approvedStatus, isOwner);
         });
 
-        Specification<Event> finalSpec = baseFilter.and(securitySpec);
-
-        return eventRepository.findAll(finalSpec, pageable).map(this::toDto);
+        return baseFilter.and(securitySpec);
     }
 
-    // UPDATE
+    // UPDATE (transactional so a capacity resync can refresh the managed entity)
+    @Transactional
     public EventDto update(UUID id, EventDto dto) {
         Event event = findEventById(id);
         User currentUser = userService.getCurrentAuthenticatedUser();
@@ -134,7 +283,23 @@ public class EventService {
         if (dto.getStartDate() != null) event.setStartDate(dto.getStartDate());
         if (dto.getEndDate() != null) event.setEndDate(dto.getEndDate());
 
-        return toDto(eventRepository.save(event));
+        boolean capacityChanged = dto.getMaxParticipants() != null
+                && !dto.getMaxParticipants().equals(event.getMaxParticipants());
+        if (capacityChanged) event.setMaxParticipants(dto.getMaxParticipants());
+
+        // Flushed so the cached copy carries the updatedAt set by auditing
+        Event saved = eventRepository.saveAndFlush(event);
+        if (capacityChanged) {
+            eventCapacityService.resync(saved);
+        }
+        afterCommit(() -> {
+            reindex(saved);
+            // Other statuses never appear in the shared listing
+            if (saved.getStatus() == EventStatus.APPROVED) {
+                eventListingCache.purgeEventContent(id);
+            }
+        });
+        return cacheDto(saved);
     }
 
     // DELETE
@@ -144,9 +309,14 @@ public class EventService {
         validateOwnership(event, currentUser);
 
         eventRepository.deleteById(id);
+        eventCache().evict(id);
+        eventListingCache.purgeEvent(id);
+        eventSearchIndex.evict(id);
+        eventSuggestionIndex.evict(id);
     }
 
-    // Submit to admin
+    // Submit to admin (the admin notification is queued in the same transaction)
+    @Transactional
     public EventDto submit(UUID id) {
         Event event = findEventById(id);
         User currentUser = userService.getCurrentAuthenticatedUser();
@@ -154,14 +324,15 @@ public class EventService {
 
         if (event.getStatus() == EventStatus.DRAFT || event.getStatus() == EventStatus.REJECTED) {
             event.setStatus(EventStatus.PENDING);
-            eventRepository.save(event);
+            // Flushed so the cached copy carries the new updatedAt
+            event = eventRepository.saveAndFlush(event);
         }
 
         notificationDispatcherService.notifyAllAdmins(
                 "New event submit",
                 event.getName() + " by " + event.getOwner().getFirstname() + " " + event.getOwner().getLastname());
 
-        return toDto(event);
+        return cacheDto(event);
     }
 
 
@@ -170,10 +341,29 @@ public class EventService {
 
         if (event.getStatus() == requiredStatus) {
             event.setStatus(newStatus);
-            eventRepository.save(event);
+            // Not transactional: save commits, and its result carries the new updatedAt
+            event = eventRepository.save(event);
+            reindex(event);
+
+            if (newStatus == EventStatus.APPROVED) {
+                eventListingCache.purgeAll();
+            } else {
+                eventListingCache.purgeEvent(eventId);
+            }
         }
 
-        return toDto(event);
+        return cacheDto(event);
+    }
+
+    // Keeps the in-memory search and suggestion indexes in line with the saved event
+    private void reindex(Event event) {
+        eventSearchIndex.reindex(event);
+        eventSuggestionIndex.reindex(event);
+    }
+
+    // Suggest
+    public List<EventSuggestionDto> suggest(String query, int limit) {
+        return eventSuggestionIndex.suggest(query, limit);
     }
 
     // Approve
@@ -0,0 +1,253 @@
+package org.volumteerhub.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import org.volumteerhub.common.enumeration.EventStatus;
+import org.volumteerhub.common.enumeration.RegistrationStatus;
+import org.volumteerhub.common.exception.BadRequestException;
+import org.volumteerhub.common.exception.ResourceNotFoundException;
+import org.volumteerhub.common.exception.UnauthorizedAccessException;
+import org.volumteerhub.dto.EventSlotDto;
+import org.volumteerhub.model.Event;
+import org.volumteerhub.model.EventSlot;
+import org.volumteerhub.model.SlotSignup;
+import org.volumteerhub.model.User;
+import org.volumteerhub.repository.EventRepository;
+import org.volumteerhub.repository.EventSlotRepository;
+import org.volumteerhub.repository.RegistrationRepository;
+import org.volumteerhub.repository.SlotSignupRepository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Shifts inside an event. Slot seats use the same conditional-UPDATE counter as event seats,
+ * and only volunteers holding an event seat can pick slots.
+ */
+@Service
+@RequiredArgsConstructor
+public class EventSlotService {
+
+    private final EventRepository eventRepository;
+    private final EventSlotRepository eventSlotRepository;
+    private final SlotSignupRepository slotSignupRepository;
+    private final RegistrationRepository registrationRepository;
+    private final UserService userService;
+
+    private EventSlotDto toDto(EventSlot slot, boolean joined) {
+        EventSlotDto dto = new EventSlotDto();
+        dto.setId(slot.getId());
+        dto.setName(slot.getName());
+        dto.setStartTime(slot.getStartTime());
+        dto.setEndTime(slot.getEndTime());
+        dto.setCapacity(slot.getCapacity());
+        dto.setSeatsTaken(slot.getSeatsTaken());
+        dto.setFreeSeats(Math.max(0, slot.getCapacity() - slot.getSeatsTaken()));
+        dto.setJoined(joined);
+        return dto;
+    }
+
+    private Event findVisibleEvent(UUID eventId) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + eventId));
+
+        if (event.getStatus() != EventStatus.APPROVED && !userService.isCurrentUserAdmin()
+                && !event.getOwner().getId().equals(userService.getCurrentPrincipal().getId())) {
+            throw new UnauthorizedAccessException("User is not the owner of event " + eventId);
+        }
+        return event;
+    }
+
+    private Event findManagedEvent(UUID eventId) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + eventId));
+        userService.validateOwnerOrAdmin(event.getOwner(), userService.getCurrentAuthenticatedUser());
+        return event;
+    }
+
+    private EventSlot findSlot(UUID eventId, UUID slotId) {
+        return eventSlotRepository.findByIdAndEventId(slotId, eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Slot not found with id: " + slotId));
+    }
+
+    // No bean validation provider on the classpath, so the DTO constraints are checked here
+    private static void validateCreate(EventSlotDto dto) {
+        if (!StringUtils.hasText(dto.getName())) {
+            throw new BadRequestException("Slot name is required.");
+        }
+        if (dto.getStartTime() == null || dto.getEndTime() == null) {
+            throw new BadRequestException("Slot start and end times are required.");
+        }
+        if (dto.getCapacity() == null) {
+            throw new BadRequestException("Slot capacity is required.");
+        }
+        validateCapacity(dto.getCapacity());
+    }
+
+    private static void validateCapacity(int capacity) {
+        if (capacity < 1) {
+            throw new BadRequestException("Slot capacity must be at least 1.");
+        }
+    }
+
+    private void validateWindow(Event event, Instant startTime, Instant endTime) {
+        if (!startTime.isBefore(endTime)) {
+            throw new BadRequestException("Slot start time must be before its end time.");
+        }
+        if (!isInsideEvent(event, startTime, endTime)) {
+            throw new BadRequestException("Slot must fall within the event's start and end dates.");
+        }
+    }
+
+    private static boolean isInsideEvent(Event event, Instant startTime, Instant endTime) {
+        return (event.getStartDate() == null || !startTime.isBefore(event.getStartDate()))
+                && (event.getEndDate() == null || !endTime.isAfter(event.getEndDate()));
+    }
+
+    // LIST (free seats of every slot in one query, plus the caller's sign-ups)
+    @Transactional(readOnly = true)
+    public List<EventSlotDto> list(UUID eventId) {
+        findVisibleEvent(eventId);
+
+        UUID currentUserId = userService.getCurrentPrincipal().getId();
+        Set<UUID> joined = slotSignupRepository.findSlotIdsByEventIdAndUserId(eventId, currentUserId);
+
+        return eventSlotRepository.findByEventIdOrderByStartTimeAscIdAsc(eventId).stream()
+                .map(slot -> toDto(slot, joined.contains(slot.getId())))
+                .toList();
+    }
+
+    // CREATE
+    @Transactional
+    public EventSlotDto create(UUID eventId, EventSlotDto dto) {
+        Event event = findManagedEvent(eventId);
+        validateCreate(dto);
+        validateWindow(event, dto.getStartTime(), dto.getEndTime());
+
+        EventSlot slot = EventSlot.builder()
+                .event(event)
+                .name(dto.getName())
+                .startTime(dto.getStartTime())
+                .endTime(dto.getEndTime())
+                .capacity(dto.getCapacity())
+                .build();
+
+        return toDto(eventSlotRepository.save(slot), false);
+    }
+
+    // UPDATE (capacity can't go below the seats already taken)
+    @Transactional
+    public EventSlotDto update(UUID eventId, UUID slotId, EventSlotDto dto) {
+        Event event = findManagedEvent(eventId);
+        EventSlot slot = findSlot(eventId, slotId);
+
+        if (dto.getName() != null && !StringUtils.hasText(dto.getName())) {
+            throw new BadRequestException("Slot name can't be blank.");
+        }
+        if (dto.getCapacity() != null) validateCapacity(dto.getCapacity());
+
+        if (dto.getName() != null) slot.setName(dto.getName());
+        if (dto.getStartTime() != null) slot.setStartTime(dto.getStartTime());
+        if (dto.getEndTime() != null) slot.setEndTime(dto.getEndTime());
+        validateWindow(event, slot.getStartTime(), slot.getEndTime());
+
+        if (dto.getCapacity() != null && !dto.getCapacity().equals(slot.getCapacity())) {
+            // Checked against the live counter, concurrent joins can't slip under the new capacity
+            if (eventSlotRepository.updateCapacity(slotId, dto.getCapacity()) == 0) {
+                throw new BadRequestException("Capacity can't be lower than the seats already taken.");
+            }
+            slot.setCapacity(dto.getCapacity());
+        }
+
+        return toDto(eventSlotRepository.save(slot), false);
+    }
+
+    // DELETE
+    @Transactional
+    public void delete(UUID eventId, UUID slotId) {
+        findManagedEvent(eventId);
+        eventSlotRepository.delete(findSlot(eventId, slotId));
+    }
+
+    /**
+     * Volunteer picks a slot of an approved event. Requires an active registration for the event.
+     */
+    @Transactional
+    public EventSlotDto join(UUID eventId, UUID slotId) {
+        User volunteer = userService.getCurrentAuthenticatedUser();
+        EventSlot slot = findSlot(eventId, slotId);
+
+        Event event = slot.getEvent();
+        if (event.getStatus() != EventStatus.APPROVED) {
+            throw new BadRequestException("Slots can only be joined on approved events.");
+        }
+        if (!isInsideEvent(event, slot.getStartTime(), slot.getEndTime())) {
+            throw new BadRequestException("Slot is outside the event's dates.");
+        }
+
+        // Locked, so a double click or two overlapping slots can't both pass the checks below
+        boolean registered = registrationRepository.findForUpdateByUserIdAndEventId(volunteer.getId(), eventId)
+                .filter(r -> r.getStatus() == RegistrationStatus.PENDING || r.getStatus() == RegistrationStatus.APPROVED)
+                .isPresent();
+        if (!registered) {
+            throw new BadRequestException("Join the event before choosing a slot.");
+        }
+
+        if (slotSignupRepository.findBySlotIdAndUserId(slotId, volunteer.getId()).isPresent()) {
+            return toDto(slot, true);
+        }
+
+        if (slotSignupRepository.existsOverlapping(eventId, volunteer.getId(), slot.getStartTime(), slot.getEndTime())) {
+            throw new BadRequestException("You already joined a slot that overlaps this one.");
+        }
+
+        // Insert first, so the seat UPDATE really is the last write and the slot row lock stays short
+        slotSignupRepository.saveAndFlush(SlotSignup.builder()
+                .slot(slot)
+                .user(volunteer)
+                .build());
+
+        // Full: the exception rolls the sign-up back
+        if (eventSlotRepository.tryTakeSeat(slotId) == 0) {
+            throw new BadRequestException("Slot is full.");
+        }
+
+        // Don't touch the entity's counter, the flush would overwrite concurrent updates
+        EventSlotDto result = toDto(slot, true);
+        result.setSeatsTaken(slot.getSeatsTaken() + 1);
+        result.setFreeSeats(Math.max(0, slot.getCapacity() - result.getSeatsTaken()));
+        return result;
+    }
+
+    /**
+     * Volunteer leaves a slot.
+     */
+    @Transactional
+    public void leave(UUID eventId, UUID slotId) {
+        UUID currentUserId = userService.getCurrentPrincipal().getId();
+        findSlot(eventId, slotId);
+
+        SlotSignup signup = slotSignupRepository.findBySlotIdAndUserId(slotId, currentUserId)
+                .orElseThrow(() -> new ResourceNotFoundException("Slot sign-up not found."));
+
+        slotSignupRepository.delete(signup);
+        eventSlotRepository.releaseSeat(slotId);
+    }
+
+    /**
+     * Drops all of a volunteer's slot sign-ups once they no longer hold an event seat.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void releaseAll(UUID eventId, UUID userId) {
+        List<SlotSignup> signups = slotSignupRepository.findBySlotEventIdAndUserId(eventId, userId);
+        for (SlotSignup signup : signups) {
+            eventSlotRepository.releaseSeat(signup.getSlot().getId());
+        }
+        slotSignupRepository.deleteAll(signups);
+    }
+}
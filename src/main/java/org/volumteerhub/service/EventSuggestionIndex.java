@@ -0,0 +1,315 @@
+package org.volumteerhub.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.volumteerhub.common.enumeration.EventStatus;
+import org.volumteerhub.dto.EventSuggestionDto;
+import org.volumteerhub.model.Event;
+import org.volumteerhub.repository.EventRegistrationCountProjection;
+import org.volumteerhub.repository.EventRepository;
+import org.volumteerhub.repository.RegistrationRepository;
+import org.volumteerhub.util.StringUtil;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * Autocomplete over APPROVED event names and locations, ranked by registrations holding
+ * a seat (PENDING, APPROVED, COMPLETED).
+ * Every word start of the folded text is a trie key, so "rac" completes "Dọn rác bãi biển".
+ * Each node caches its top completions; a change only invalidates the nodes on the
+ * changed entry's keys, which are recomputed from their children on the next lookup.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventSuggestionIndex {
+
+    public static final int MAX_LIMIT = 10;
+
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparingLong((Entry e) -> e.weight).reversed()
+            .thenComparing(e -> e.text);
+
+    private final EventRepository eventRepository;
+    private final RegistrationRepository registrationRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    private final Map<UUID, IndexedEvent> events = new HashMap<>();
+    private final Map<String, Entry> locations = new HashMap<>();
+
+    private static final class Node {
+        final Map<Character, Node> children = new HashMap<>();
+        final Set<Entry> entries = new HashSet<>();
+        // Best MAX_LIMIT entries of this subtree, null when stale
+        volatile List<Entry> top;
+    }
+
+    private static final class Entry {
+        final String text;
+        final EventSuggestionDto.Type type;
+        final UUID eventId;
+        final Set<String> keys;
+        long weight;
+        // Events sharing a location entry
+        int uses;
+
+        Entry(String text, EventSuggestionDto.Type type, UUID eventId) {
+            this.text = text;
+            this.type = type;
+            this.eventId = eventId;
+            this.keys = wordStartKeys(StringUtil.foldForSearch(text));
+        }
+    }
+
+    private record IndexedEvent(Entry name, Entry location, long registrations) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        List<Event> approved = eventRepository.findByStatus(EventStatus.APPROVED);
+        Map<UUID, Long> counts = registrationRepository.countByEventStatus(EventStatus.APPROVED, EventCapacityService.SEAT_HOLDING).stream()
+                .collect(Collectors.toMap(EventRegistrationCountProjection::getEventId,
+                        EventRegistrationCountProjection::getCount));
+
+        lock.writeLock().lock();
+        try {
+            approved.forEach(event -> add(event, counts.getOrDefault(event.getId(), 0L)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Event suggestion index built with {} events, {} locations", events.size(), locations.size());
+    }
+
+    /**
+     * @return up to limit (clamped to 1..MAX_LIMIT) completions of the prefix, most registrations first.
+     */
+    public List<EventSuggestionDto> suggest(String prefix, int limit) {
+        String folded = StringUtil.foldForSearch(prefix);
+        if (folded.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < folded.length() && node != null; i++) {
+                node = node.children.get(folded.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+
+            return top(node).stream()
+                    .limit(Math.max(1, Math.min(limit, MAX_LIMIT)))
+                    .map(e -> new EventSuggestionDto(e.text, e.type, e.eventId))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds, refreshes or drops the event depending on whether it is APPROVED.
+     */
+    public void reindex(Event event) {
+        Long counted = null;
+        while (true) {
+            lock.writeLock().lock();
+            try {
+                IndexedEvent previous = events.get(event.getId());
+                if (event.getStatus() != EventStatus.APPROVED) {
+                    if (previous != null) {
+                        remove(event.getId());
+                    }
+                    return;
+                }
+
+                if (previous != null || counted != null) {
+                    long registrations = previous != null ? previous.registrations() : counted;
+                    remove(event.getId());
+                    add(event, registrations);
+                    return;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            // New to the index: count outside the lock so suggest() never waits on the database
+            counted = registrationRepository.countByEventIdAndStatusIn(event.getId(), EventCapacityService.SEAT_HOLDING);
+        }
+    }
+
+    public void evict(UUID eventId) {
+        lock.writeLock().lock();
+        try {
+            remove(eventId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Applies a seat count change (+1 taken, -1 released) to the event's ranking.
+     */
+    public void adjustRegistrations(UUID eventId, long delta) {
+        lock.writeLock().lock();
+        try {
+            IndexedEvent indexed = events.get(eventId);
+            if (indexed == null) {
+                return;
+            }
+
+            long registrations = Math.max(0, indexed.registrations() + delta);
+            long applied = registrations - indexed.registrations();
+            events.put(eventId, new IndexedEvent(indexed.name(), indexed.location(), registrations));
+
+            reweigh(indexed.name(), applied);
+            if (indexed.location() != null) {
+                reweigh(indexed.location(), applied);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void add(Event event, long registrations) {
+        Entry name = new Entry(event.getName(), EventSuggestionDto.Type.NAME, event.getId());
+        name.weight = registrations;
+        insert(name);
+
+        // Events at the same place share one location suggestion, weighted by their total
+        Entry location = null;
+        String locationKey = StringUtil.foldForSearch(event.getLocation());
+        if (StringUtils.hasText(locationKey)) {
+            location = locations.get(locationKey);
+            if (location == null) {
+                location = new Entry(event.getLocation().trim(), EventSuggestionDto.Type.LOCATION, null);
+                locations.put(locationKey, location);
+                insert(location);
+            }
+            location.uses++;
+            reweigh(location, registrations);
+        }
+
+        events.put(event.getId(), new IndexedEvent(name, location, registrations));
+    }
+
+    private void remove(UUID eventId) {
+        IndexedEvent indexed = events.remove(eventId);
+        if (indexed == null) {
+            return;
+        }
+
+        delete(indexed.name());
+
+        Entry location = indexed.location();
+        if (location != null) {
+            if (--location.uses > 0) {
+                reweigh(location, -indexed.registrations());
+            } else {
+                locations.remove(StringUtil.foldForSearch(location.text));
+                delete(location);
+            }
+        }
+    }
+
+    private void reweigh(Entry entry, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        entry.weight += delta;
+        for (String key : entry.keys) {
+            invalidate(key);
+        }
+    }
+
+    private void insert(Entry entry) {
+        for (String key : entry.keys) {
+            Node node = root;
+            node.top = null;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                node.top = null;
+            }
+            node.entries.add(entry);
+        }
+    }
+
+    private void delete(Entry entry) {
+        for (String key : entry.keys) {
+            delete(root, key, 0, entry);
+        }
+    }
+
+    // Removes the entry under key and prunes nodes left empty; returns true if node is now empty
+    private boolean delete(Node node, String key, int depth, Entry entry) {
+        node.top = null;
+        if (depth == key.length()) {
+            node.entries.remove(entry);
+        } else {
+            Node child = node.children.get(key.charAt(depth));
+            if (child != null && delete(child, key, depth + 1, entry)) {
+                node.children.remove(key.charAt(depth));
+            }
+        }
+        return node.entries.isEmpty() && node.children.isEmpty();
+    }
+
+    private void invalidate(String key) {
+        Node node = root;
+        node.top = null;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+            if (node != null) {
+                node.top = null;
+            }
+        }
+    }
+
+    // Readers may compute the same stale node concurrently; the result is identical, so the race is benign
+    private List<Entry> top(Node node) {
+        List<Entry> top = node.top;
+        if (top != null) {
+            return top;
+        }
+
+        Set<Entry> candidates = new LinkedHashSet<>(node.entries);
+        for (Node child : node.children.values()) {
+            candidates.addAll(top(child));
+        }
+
+        List<Entry> ranked = new ArrayList<>(candidates);
+        ranked.sort(RANKING);
+        top = List.copyOf(ranked.subList(0, Math.min(MAX_LIMIT, ranked.size())));
+        node.top = top;
+        return top;
+    }
+
+    private static Set<String> wordStartKeys(String folded) {
+        Set<String> keys = new HashSet<>();
+        if (folded.isEmpty()) {
+            return keys;
+        }
+        keys.add(folded);
+        for (int i = folded.indexOf(' '); i >= 0; i = folded.indexOf(' ', i + 1)) {
+            keys.add(folded.substring(i + 1));
+        }
+        return keys;
+    }
+}
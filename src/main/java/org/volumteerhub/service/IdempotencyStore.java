@@ -0,0 +1,59 @@
+package org.volumteerhub.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.volumteerhub.common.exception.BadRequestException;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Remembers responses by the client's Idempotency-Key so a retried request gets
+ * the original answer. Responses are only stored once their transaction commits.
+ */
+@Component
+public class IdempotencyStore {
+
+    private record StoredResponse(String operation, Object response) {
+    }
+
+    private final Cache<String, StoredResponse> responses;
+
+    public IdempotencyStore(
+            @Value("${app.idempotency.max-keys:100000}") long maxKeys,
+            @Value("${app.idempotency.ttl-hours:24}") long ttlHours) {
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(Duration.ofHours(ttlHours))
+                .build();
+    }
+
+    /**
+     * @param operation identifies the request (e.g. "join:{eventId}"), a key reused for another one is rejected
+     * @return the stored response, or null if the key is new.
+     */
+    public <T> T find(UUID userId, String key, String operation, Class<T> type) {
+        StoredResponse stored = responses.getIfPresent(userId + ":" + key);
+        if (stored == null) {
+            return null;
+        }
+        if (!stored.operation().equals(operation)) {
+            throw new BadRequestException("Idempotency-Key was already used for a different request.");
+        }
+        return type.cast(stored.response());
+    }
+
+    public void storeAfterCommit(UUID userId, String key, String operation, Object response) {
+        StoredResponse stored = new StoredResponse(operation, response);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                responses.put(userId + ":" + key, stored);
+            }
+        });
+    }
+}
@@ -0,0 +1,137 @@
+package org.volumteerhub.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.volumteerhub.config.VapidConfig;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coalesces frequent notifications of one type to one recipient: everything arriving
+ * within the window is sent as a single digest ("37 new volunteers") when the window ends.
+ * Kept in memory, so a crash loses at most one window of digests.
+ */
+@Slf4j
+@Component
+public class NotificationDigestBuffer {
+
+    private record DigestKey(UUID recipientId, String type, String url) {
+    }
+
+    /**
+     * Compared by identity, so a flush only removes the exact entry it read.
+     */
+    private static final class Pending {
+        private final String title;
+        private final String body;
+        private final String digestBody;
+        private final Instant flushAt;
+        private final int count;
+
+        private Pending(String title, String body, String digestBody, Instant flushAt, int count) {
+            this.title = title;
+            this.body = body;
+            this.digestBody = digestBody;
+            this.flushAt = flushAt;
+            this.count = count;
+        }
+
+        private Pending increment() {
+            return new Pending(title, body, digestBody, flushAt, count + 1);
+        }
+    }
+
+    private final NotificationDispatcherService notificationDispatcherService;
+    private final VapidConfig vapidConfig;
+    private final Duration window;
+    private final Counter suppressed;
+
+    private final Map<DigestKey, Pending> pending = new ConcurrentHashMap<>();
+
+    public NotificationDigestBuffer(
+            NotificationDispatcherService notificationDispatcherService,
+            VapidConfig vapidConfig,
+            MeterRegistry meterRegistry,
+            @Value("${app.notification.digest.window-seconds:60}") long windowSeconds) {
+        this.notificationDispatcherService = notificationDispatcherService;
+        this.vapidConfig = vapidConfig;
+        this.window = Duration.ofSeconds(windowSeconds);
+        this.suppressed = Counter.builder("notification.digest.suppressed")
+                .description("Notifications merged into a digest instead of being sent")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Buffers a notification once the current transaction commits.
+     * @param digestBody body used when several were merged, with a %d for the count.
+     */
+    public void addAfterCommit(UUID recipientId, String type, String title, String body,
+                               String digestBody, String url) {
+        // Nothing would ever deliver it
+        if (!vapidConfig.isEnabled()) {
+            return;
+        }
+
+        DigestKey key = new DigestKey(recipientId, type, url);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(key, title, body, digestBody);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(key, title, body, digestBody);
+            }
+        });
+    }
+
+    private void add(DigestKey key, String title, String body, String digestBody) {
+        pending.compute(key, (k, current) -> current == null
+                ? new Pending(title, body, digestBody, Instant.now().plus(window), 1)
+                : current.increment());
+    }
+
+    @Scheduled(fixedDelayString = "${app.notification.digest.flush-interval-ms:1000}")
+    public void flushDue() {
+        flush(Instant.now());
+    }
+
+    @PreDestroy
+    public void flushAll() {
+        flush(Instant.MAX);
+    }
+
+    private void flush(Instant now) {
+        for (Map.Entry<DigestKey, Pending> entry : pending.entrySet()) {
+            DigestKey key = entry.getKey();
+            Pending digest = entry.getValue();
+            if (digest.flushAt.isAfter(now) || !pending.remove(key, digest)) {
+                continue;
+            }
+
+            String body = digest.count == 1 ? digest.body : String.format(digest.digestBody, digest.count);
+            try {
+                notificationDispatcherService.sendToUserIds(List.of(key.recipientId()), digest.title, body, key.url());
+            } catch (Exception e) {
+                log.error("Could not queue {} digest for user {}: {}", key.type(), key.recipientId(), e.getMessage());
+                continue;
+            }
+            if (digest.count > 1) {
+                suppressed.increment(digest.count - 1);
+                log.debug("Merged {} {} notifications for user {}", digest.count, key.type(), key.recipientId());
+            }
+        }
+    }
+}
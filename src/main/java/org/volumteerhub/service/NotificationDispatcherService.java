@@ -3,43 +3,76 @@ package org.volumteerhub.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.volumteerhub.common.enumeration.UserRole;
+import org.volumteerhub.config.VapidConfig;
 import org.volumteerhub.model.Event;
+import org.volumteerhub.model.NotificationOutbox;
 import org.volumteerhub.model.User;
+import org.volumteerhub.repository.NotificationOutboxRepository;
 import org.volumteerhub.repository.UserRepository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
+/**
+ * Queues notifications in the outbox, inside the caller's transaction: they are sent
+ * only if the business change commits, and the request never waits on push endpoints.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationDispatcherService {
 
     private final UserRepository userRepository;
-    private final WebPushService webPushService;
+    private final NotificationOutboxRepository outboxRepository;
+    private final VapidConfig vapidConfig;
 
     public void sendToUsers(List<User> users, String title, String body) {
         sendToUsers(users, title, body, null);
     }
 
+    @Transactional
     public void sendToUsers(List<User> users, String title, String body, String url) {
-        for (User user : users) {
-            try {
-                webPushService.sendNotificationToUser(user, title, body, url);
-                log.info("Dispatching notifications to {} users: {}", users.size(), title);
-            } catch (Exception e) {
-                log.error("Failed to send notification to user {}: {}", user.getUsername(), e.getMessage());
-            }
-        }
+        enqueue(users.stream().map(User::getId).toList(), title, body, url);
+    }
+
+    /**
+     * Batch API for broadcasts: only ids are needed, the dispatcher loads all devices in bulk.
+     */
+    @Transactional
+    public void sendToUserIds(Collection<UUID> userIds, String title, String body, String url) {
+        enqueue(userIds, title, body, url);
     }
 
+    @Transactional
     public void notifyAllAdmins (String title, String body) {
-        List<User> admins = userRepository.findByRole(UserRole.ADMIN);
-        this.sendToUsers(admins, title, body);
+        enqueue(userRepository.findIdsByRole(UserRole.ADMIN), title, body, null);
     }
 
+    @Transactional
     public void notifyEventOwner (Event event, String title, String body, String url) {
-        User owner = event.getOwner();
-        webPushService.sendNotificationToUser(owner, title, body, url);
+        enqueue(List.of(event.getOwner().getId()), title, body, url);
+    }
+
+    private void enqueue(Collection<UUID> recipientIds, String title, String body, String url) {
+        // Nothing would ever drain the rows
+        if (!vapidConfig.isEnabled() || recipientIds.isEmpty()) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        outboxRepository.saveAll(recipientIds.stream()
+                .map(recipientId -> NotificationOutbox.builder()
+                        .recipientId(recipientId)
+                        .title(title)
+                        .body(body)
+                        .url(url)
+                        .nextAttemptAt(now)
+                        .build())
+                .toList());
+        log.info("Queued notification for {} users: {}", recipientIds.size(), title);
     }
 }
@@ -0,0 +1,158 @@
+package org.volumteerhub.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.volumteerhub.model.NotificationOutbox;
+import org.volumteerhub.model.PushSubscription;
+import org.volumteerhub.repository.NotificationOutboxRepository;
+
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the notification outbox in the background. A batch is claimed by pushing its
+ * next attempt out by a lease and committing, then fanned out in parallel outside any transaction.
+ * Delivered rows are deleted, failed ones retried with exponential backoff; a crash
+ * mid-batch only means the lease expires and the batch is sent again (at-least-once).
+ */
+@Slf4j
+@Component
+public class NotificationOutboxDispatcher {
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final WebPushService webPushService;
+    private final PushFanoutService pushFanoutService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+
+    public NotificationOutboxDispatcher(
+            NotificationOutboxRepository outboxRepository,
+            WebPushService webPushService,
+            PushFanoutService pushFanoutService,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.notification.outbox.batch-size:100}") int batchSize,
+            @Value("${app.notification.outbox.max-attempts:8}") int maxAttempts,
+            @Value("${app.notification.outbox.lease-seconds:300}") long leaseSeconds,
+            @Value("${app.notification.outbox.base-backoff-seconds:5}") long baseBackoffSeconds,
+            @Value("${app.notification.outbox.max-backoff-seconds:3600}") long maxBackoffSeconds) {
+
+        this.outboxRepository = outboxRepository;
+        this.webPushService = webPushService;
+        this.pushFanoutService = pushFanoutService;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.baseBackoff = Duration.ofSeconds(baseBackoffSeconds);
+        this.maxBackoff = Duration.ofSeconds(maxBackoffSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${app.notification.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        if (!webPushService.isEnabled()) {
+            return;
+        }
+
+        List<NotificationOutbox> batch;
+        do {
+            batch = claimBatch();
+            deliver(batch);
+        } while (batch.size() == batchSize);
+    }
+
+    private List<NotificationOutbox> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            List<NotificationOutbox> due = outboxRepository.lockDue(now, batchSize);
+            for (NotificationOutbox message : due) {
+                message.setAttempts(message.getAttempts() + 1);
+                message.setNextAttemptAt(now.plus(lease));
+            }
+            return due;
+        });
+    }
+
+    /**
+     * Sends every device of every message in one parallel fan-out, then settles each message:
+     * delivered if none of its devices asked for a retry.
+     */
+    private void deliver(List<NotificationOutbox> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, List<PushSubscription>> subscriptions = webPushService.findSubscriptions(
+                batch.stream().map(NotificationOutbox::getRecipientId).collect(Collectors.toSet()));
+
+        List<HttpRequest> requests = new ArrayList<>();
+        List<Integer> requestMessage = new ArrayList<>();
+        List<UUID> requestSubscription = new ArrayList<>();
+        String[] errors = new String[batch.size()];
+
+        for (int i = 0; i < batch.size(); i++) {
+            NotificationOutbox message = batch.get(i);
+            String payload = webPushService.buildPayload(message.getTitle(), message.getBody(), message.getUrl());
+
+            for (PushSubscription subscription : subscriptions.getOrDefault(message.getRecipientId(), List.of())) {
+                try {
+                    requests.add(webPushService.prepareRequest(subscription, payload));
+                    requestMessage.add(i);
+                    requestSubscription.add(subscription.getId());
+                } catch (Exception e) {
+                    errors[i] = "Could not prepare push: " + e.getMessage();
+                }
+            }
+        }
+
+        List<PushFanoutService.Outcome> outcomes = pushFanoutService.sendAll(requests);
+
+        Set<UUID> gone = new HashSet<>();
+        for (int r = 0; r < outcomes.size(); r++) {
+            switch (outcomes.get(r)) {
+                case GONE -> gone.add(requestSubscription.get(r));
+                case RETRY -> errors[requestMessage.get(r)] = "Push endpoint asked for a retry";
+                case SKIPPED -> errors[requestMessage.get(r)] = "Push endpoint circuit is open";
+                // Already logged, retrying the same request won't change the answer
+                case DELIVERED, FAILED -> { }
+            }
+        }
+        webPushService.removeSubscriptions(gone);
+
+        List<UUID> settled = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            NotificationOutbox message = batch.get(i);
+            if (errors[i] == null) {
+                settled.add(message.getId());
+            } else if (message.getAttempts() >= maxAttempts) {
+                log.error("Dropping notification {} for user {} after {} attempts: {}",
+                        message.getId(), message.getRecipientId(), message.getAttempts(), errors[i]);
+                settled.add(message.getId());
+            } else {
+                outboxRepository.reschedule(message.getId(), Instant.now().plus(backoff(message.getAttempts())), errors[i]);
+            }
+        }
+        outboxRepository.deleteAllByIdInBatch(settled);
+    }
+
+    // base * 2^(attempts - 1), capped
+    private Duration backoff(int attempts) {
+        Duration delay = baseBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
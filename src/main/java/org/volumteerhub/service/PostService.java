@@ -3,9 +3,13 @@ package org.volumteerhub.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.volumteerhub.common.enumeration.ReactionType;
 import org.volumteerhub.common.exception.BadRequestException;
 import org.volumteerhub.common.exception.ResourceNotFoundException;
@@ -15,11 +19,16 @@ import org.volumteerhub.repository.EventRepository;
 import org.volumteerhub.repository.PostMediaRepository;
 import org.volumteerhub.repository.PostRepository;
 import org.volumteerhub.repository.ReactionRepository;
+import org.volumteerhub.util.Cursor;
 
 import java.io.IOException;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -33,9 +42,11 @@ public class PostService {
     private final ReactionRepository reactionRepository;
     private final UserService userService;
     private final StorageService storageService;
+    private final RequestCoalescer requestCoalescer;
+    private final PlatformTransactionManager transactionManager;
 
 
-    private PostDto toDto(Post post) {
+    private PostDto toBaseDto(Post post) {
         PostDto dto = new PostDto();
         dto.setId(post.getId());
         dto.setContent(post.getContent());
@@ -43,6 +54,11 @@ public class PostService {
         dto.setAuthorName(post.getUser().getFirstname() + " " + post.getUser().getLastname());
         dto.setCreatedAt(post.getCreatedAt());
         dto.setUpdatedAt(post.getUpdatedAt());
+        return dto;
+    }
+
+    private PostDto toDto(Post post) {
+        PostDto dto = toBaseDto(post);
 
         if (post.getMedias() != null) {
             List<String> urls = post.getMedias().stream()
@@ -54,14 +70,69 @@ public class PostService {
         return dto;
     }
 
+    /**
+     * Mapper for a page of posts (authors already fetched with the page).
+     * Media and per-type reaction counts for the whole page are loaded with one query each,
+     * instead of lazy loads per post.
+     */
+    private Function<Post, PostDto> feedMapper(List<Post> posts) {
+        if (posts.isEmpty()) {
+            return this::toBaseDto;
+        }
+
+        List<UUID> postIds = posts.stream().map(Post::getId).toList();
+
+        Map<UUID, List<String>> mediaUrls = postMediaRepository.findByPostIdInOrderByCreatedAtAsc(postIds).stream()
+                .collect(Collectors.groupingBy(
+                        media -> media.getPost().getId(),
+                        Collectors.mapping(PostMedia::getPath, Collectors.toList())
+                ));
+        Map<UUID, Map<ReactionType, Long>> reactionCounts =
+                reactionRepository.countReactionsByPostIdsGroupedByType(postIds);
+
+        return post -> {
+            PostDto dto = toBaseDto(post);
+            dto.setMediaUrls(mediaUrls.getOrDefault(post.getId(), List.of()));
+            dto.setReactionCounts(reactionCounts.getOrDefault(post.getId(), Map.of()));
+            return dto;
+        };
+    }
+
     // LIST (Pagination handled here)
-    @Transactional(readOnly = true)
+    // Not transactional: coalesced followers wait without holding a connection,
+    // only the leader's load opens a read-only transaction
     public Page<PostDto> listByEvent(UUID eventId, Pageable pageable) {
+        // Identical concurrent page reads (e.g. right after a push) share one load
+        return requestCoalescer.execute("posts:" + eventId + ":" + pageable, () -> readOnly(() -> {
+            if (!eventRepository.existsById(eventId)) {
+                throw new ResourceNotFoundException("Event not found with id: " + eventId);
+            }
+            // Map Page<Entity> to Page<Dto>
+            Page<Post> posts = postRepository.findByEventId(eventId, pageable);
+            return posts.map(feedMapper(posts.getContent()));
+        }));
+    }
+
+    private <T> T readOnly(Supplier<T> loader) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> loader.get());
+    }
+
+    // LIST (Keyset pagination, newest first)
+    @Transactional(readOnly = true)
+    public Slice<PostDto> listByEventCursor(UUID eventId, String cursor, int size) {
         if (!eventRepository.existsById(eventId)) {
             throw new ResourceNotFoundException("Event not found with id: " + eventId);
         }
-        // Map Page<Entity> to Page<Dto>
-        return postRepository.findByEventId(eventId, pageable).map(this::toDto);
+
+        Cursor after = Cursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, size);
+        Slice<Post> posts = after == null
+                ? postRepository.findFirstSliceByEventId(eventId, limit)
+                : postRepository.findSliceByEventIdBefore(eventId, after.createdAt(), after.id(), limit);
+
+        return posts.map(feedMapper(posts.getContent()));
     }
 
     // CREATE
@@ -92,6 +163,14 @@ public class PostService {
         return toDto(post);
     }
 
+    /**
+     * Last modification time for conditional GETs, without loading or mapping the post.
+     */
+    public Instant getVersion(UUID postId) {
+        return postRepository.findUpdatedAtById(postId)
+                .orElseThrow(() -> new ResourceNotFoundException("Post not found"));
+    }
+
     // UPDATE
     @Transactional
     public PostDto update(UUID postId, PostDto dto) {
@@ -105,6 +184,8 @@ public class PostService {
 
         if (dto.getMediaFilenames() != null && !dto.getMediaFilenames().isEmpty()) {
             handleMediaUploads(post, post.getEvent().getId(), dto.getMediaUrls());
+            // Media rows don't dirty the post itself, bump it so its ETag changes
+            post.setUpdatedAt(Instant.now());
         }
 
         return toDto(postRepository.save(post));
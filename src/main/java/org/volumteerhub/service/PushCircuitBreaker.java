@@ -0,0 +1,165 @@
+package org.volumteerhub.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Failure tracking per push endpoint and per push-service origin.
+ * After repeated failures (timeouts, 429, 5xx) a circuit opens and sends are skipped
+ * instead of waiting for the timeout again; once the open period is over a single
+ * probe is let through. Endpoints that keep failing with timeouts or 5xx are reported
+ * as dead for pruning; throttling (429) only opens the circuit.
+ */
+@Slf4j
+@Component
+public class PushCircuitBreaker {
+
+    public enum Decision {
+        SEND,
+        SKIP
+    }
+
+    private final int endpointFailureThreshold;
+    private final int originFailureThreshold;
+    private final int pruneAfterFailures;
+    private final long openNanos;
+
+    private final Cache<String, Circuit> endpoints;
+    private final Cache<String, Circuit> origins;
+
+    public PushCircuitBreaker(
+            @Value("${app.notification.push.circuit.endpoint-failure-threshold:3}") int endpointFailureThreshold,
+            @Value("${app.notification.push.circuit.origin-failure-threshold:20}") int originFailureThreshold,
+            @Value("${app.notification.push.circuit.prune-after-failures:8}") int pruneAfterFailures,
+            @Value("${app.notification.push.circuit.open-seconds:300}") long openSeconds,
+            @Value("${app.notification.push.circuit.max-tracked-endpoints:100000}") long maxTrackedEndpoints) {
+        this.endpointFailureThreshold = endpointFailureThreshold;
+        this.originFailureThreshold = originFailureThreshold;
+        this.pruneAfterFailures = pruneAfterFailures;
+        this.openNanos = Duration.ofSeconds(openSeconds).toNanos();
+
+        // An endpoint left alone long enough behaves like a new one anyway
+        Duration idle = Duration.ofSeconds(openSeconds).multipliedBy(pruneAfterFailures + 1L);
+        this.endpoints = Caffeine.newBuilder()
+                .maximumSize(maxTrackedEndpoints)
+                .expireAfterAccess(idle)
+                .build();
+        this.origins = Caffeine.newBuilder()
+                .expireAfterAccess(idle)
+                .build();
+    }
+
+    public Decision check(URI endpoint) {
+        long now = System.nanoTime();
+
+        // Endpoint first: a skipped request shouldn't use up the origin's probe
+        Circuit circuit = endpoints.getIfPresent(endpoint.toString());
+        if (circuit != null && !circuit.tryPass(now, openNanos)) {
+            return Decision.SKIP;
+        }
+        Circuit origin = origins.getIfPresent(origin(endpoint));
+        if (origin != null && !origin.tryPass(now, openNanos)) {
+            return Decision.SKIP;
+        }
+        return Decision.SEND;
+    }
+
+    public void recordSuccess(URI endpoint) {
+        Circuit origin = origins.getIfPresent(origin(endpoint));
+        if (origin != null) {
+            origin.close();
+        }
+        endpoints.invalidate(endpoint.toString());
+    }
+
+    /**
+     * Timeout, network error or 5xx.
+     * @return true if the endpoint failed often enough that its subscription should be pruned.
+     */
+    public boolean recordFailure(URI endpoint) {
+        return endpointCircuit(endpoint, System.nanoTime()).strike() >= pruneAfterFailures;
+    }
+
+    /**
+     * 429: the push service is throttling us, the subscription itself is fine.
+     */
+    public void recordThrottled(URI endpoint) {
+        endpointCircuit(endpoint, System.nanoTime());
+    }
+
+    // Counts the failure on both circuits and returns the endpoint's
+    private Circuit endpointCircuit(URI endpoint, long now) {
+        String originKey = origin(endpoint);
+        if (origins.get(originKey, k -> new Circuit()).fail(now, originFailureThreshold, openNanos)) {
+            log.warn("Push circuit opened for {}", originKey);
+        }
+
+        Circuit circuit = endpoints.get(endpoint.toString(), k -> new Circuit());
+        circuit.fail(now, endpointFailureThreshold, openNanos);
+        return circuit;
+    }
+
+    /**
+     * Forgets an endpoint, e.g. when the browser subscribes it again.
+     */
+    public void reset(String endpoint) {
+        endpoints.invalidate(endpoint);
+    }
+
+    private static String origin(URI uri) {
+        return uri.getScheme() + "://" + uri.getAuthority();
+    }
+
+    /**
+     * Consecutive failure count and, once open, the time the next probe may go through.
+     * Strikes count only the failures that point to a dead endpoint.
+     */
+    private static final class Circuit {
+
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicInteger strikes = new AtomicInteger();
+        private final AtomicLong retryAt = new AtomicLong();
+        private volatile boolean open;
+
+        boolean tryPass(long now, long openNanos) {
+            if (!open) {
+                return true;
+            }
+            long at = retryAt.get();
+            if (now - at < 0) {
+                return false;
+            }
+            // Half-open: one probe goes through, the rest wait for its result
+            return retryAt.compareAndSet(at, now + openNanos);
+        }
+
+        /**
+         * @return true if this failure opened the circuit.
+         */
+        boolean fail(long now, int threshold, long openNanos) {
+            int count = failures.incrementAndGet();
+            if (count >= threshold) {
+                retryAt.set(now + openNanos);
+                open = true;
+            }
+            return count == threshold;
+        }
+
+        int strike() {
+            return strikes.incrementAndGet();
+        }
+
+        void close() {
+            failures.set(0);
+            open = false;
+        }
+    }
+}
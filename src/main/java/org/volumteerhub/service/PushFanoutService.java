@@ -0,0 +1,178 @@
+package org.volumteerhub.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Sends a batch of prepared push requests in parallel, one virtual thread each,
+ * over a shared keep-alive HTTP client. A semaphore per push-service origin
+ * (FCM, Mozilla, Apple...) caps how many requests hit one provider at once.
+ */
+@Slf4j
+@Service
+public class PushFanoutService {
+
+    public enum Outcome {
+        // Accepted by the push service
+        DELIVERED,
+        // Rejected in a way retrying won't fix (400, 401, 403, 413...): VAPID or payload error
+        FAILED,
+        // Subscription expired or unsubscribed (404/410), or kept failing: remove it
+        GONE,
+        // Network error, 429 or 5xx
+        RETRY,
+        // Not sent, the endpoint's or its push service's circuit is open
+        SKIPPED
+    }
+
+    // Not HTTP statuses: the request never got a response
+    static final int NETWORK_ERROR = -1;
+    private static final int INTERRUPTED = -2;
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final HttpClient httpClient;
+    private final MeterRegistry meterRegistry;
+    private final PushCircuitBreaker circuitBreaker;
+    private final int maxConcurrencyPerOrigin;
+    private final Map<String, Semaphore> permitsByOrigin = new ConcurrentHashMap<>();
+
+    public PushFanoutService(
+            MeterRegistry meterRegistry,
+            PushCircuitBreaker circuitBreaker,
+            @Value("${app.notification.push.max-concurrency-per-origin:50}") int maxConcurrencyPerOrigin,
+            @Value("${app.notification.push.connect-timeout-seconds:5}") long connectTimeoutSeconds) {
+        this.meterRegistry = meterRegistry;
+        this.circuitBreaker = circuitBreaker;
+        this.maxConcurrencyPerOrigin = maxConcurrencyPerOrigin;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(connectTimeoutSeconds))
+                .build();
+    }
+
+    /**
+     * Sends every request and waits for all of them.
+     * @return the outcome of each request, in the same order.
+     */
+    public List<Outcome> sendAll(List<HttpRequest> requests) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+
+        long start = System.nanoTime();
+        Outcome[] outcomes = new Outcome[requests.size()];
+
+        // close() waits for every task, which also publishes their writes to outcomes
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests.size(); i++) {
+                int index = i;
+                executor.submit(() -> outcomes[index] = send(requests.get(index)));
+            }
+        }
+
+        recordBatch(outcomes, Duration.ofNanos(System.nanoTime() - start));
+        return Arrays.asList(outcomes);
+    }
+
+    private Outcome send(HttpRequest request) {
+        URI endpoint = request.uri();
+        if (circuitBreaker.check(endpoint) == PushCircuitBreaker.Decision.SKIP) {
+            return Outcome.SKIPPED;
+        }
+
+        int statusCode = deliver(request);
+        if (statusCode == INTERRUPTED) {
+            return Outcome.RETRY;
+        }
+        if (statusCode == TOO_MANY_REQUESTS) {
+            // Throttled, not broken: back off, but never prune the subscription for it
+            circuitBreaker.recordThrottled(endpoint);
+            return Outcome.RETRY;
+        }
+
+        Outcome outcome = classify(endpoint, statusCode);
+        if (outcome == Outcome.RETRY) {
+            return circuitBreaker.recordFailure(endpoint) ? Outcome.GONE : Outcome.RETRY;
+        }
+        circuitBreaker.recordSuccess(endpoint);
+        return outcome;
+    }
+
+    /**
+     * @return the response status, NETWORK_ERROR or INTERRUPTED.
+     */
+    private int deliver(HttpRequest request) {
+        Semaphore permits = permitsByOrigin.computeIfAbsent(origin(request.uri()),
+                origin -> new Semaphore(maxConcurrencyPerOrigin));
+        try {
+            permits.acquire();
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                return response.statusCode();
+            } finally {
+                permits.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return INTERRUPTED;
+        } catch (IOException e) {
+            log.warn("Push to {} failed: {}", origin(request.uri()), e.getMessage());
+            return NETWORK_ERROR;
+        }
+    }
+
+    static Outcome classify(URI endpoint, int statusCode) {
+        if (statusCode == NETWORK_ERROR) {
+            return Outcome.RETRY;
+        }
+        if (statusCode >= 200 && statusCode < 300) {
+            return Outcome.DELIVERED;
+        }
+        if (statusCode == 404 || statusCode == 410) {
+            return Outcome.GONE;
+        }
+        if (statusCode == TOO_MANY_REQUESTS || statusCode >= 500) {
+            return Outcome.RETRY;
+        }
+        log.error("Push to {} rejected with {}, check the VAPID keys and payload size", endpoint.getHost(), statusCode);
+        return Outcome.FAILED;
+    }
+
+    private void recordBatch(Outcome[] outcomes, Duration elapsed) {
+        Map<Outcome, Integer> counts = new EnumMap<>(Outcome.class);
+        for (Outcome outcome : outcomes) {
+            counts.merge(outcome, 1, Integer::sum);
+        }
+
+        Timer.builder("push.fanout.batch")
+                .description("Time to complete one push fan-out batch")
+                .register(meterRegistry)
+                .record(elapsed);
+        counts.forEach((outcome, count) -> meterRegistry
+                .counter("push.fanout.sent", "outcome", outcome.name().toLowerCase())
+                .increment(count));
+
+        log.info("Push batch of {} done in {} ms: {}", outcomes.length, elapsed.toMillis(), counts);
+    }
+
+    private static String origin(URI uri) {
+        return uri.getScheme() + "://" + uri.getAuthority();
+    }
+}
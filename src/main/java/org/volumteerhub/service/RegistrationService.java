@@ -3,20 +3,25 @@ package org.volumteerhub.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.volumteerhub.common.enumeration.EventStatus;
 import org.volumteerhub.common.enumeration.RegistrationStatus;
+import org.volumteerhub.common.exception.BadRequestException;
 import org.volumteerhub.common.exception.ResourceNotFoundException;
 import org.volumteerhub.common.exception.UnauthorizedAccessException;
+import org.volumteerhub.common.security.UserPrincipal;
 import org.volumteerhub.dto.RegistrationDto;
 import org.volumteerhub.model.Event;
 import org.volumteerhub.model.Registration;
 import org.volumteerhub.model.User;
 import org.volumteerhub.repository.EventRepository;
 import org.volumteerhub.repository.RegistrationRepository;
+import org.volumteerhub.repository.RegistrationSummary;
 import org.volumteerhub.specification.RegistrationSpecifications;
+import org.volumteerhub.util.Cursor;
 
 import java.time.Instant;
 import java.util.*;
@@ -25,10 +30,15 @@ import java.util.*;
 @RequiredArgsConstructor
 public class RegistrationService {
 
+    private static final String NEW_MEMBER_DIGEST = "new-member";
+
     private final EventRepository eventRepository;
     private final RegistrationRepository registrationRepository;
     private final UserService securityService;
-    private final NotificationDispatcherService notificationDispatcherService;
+    private final NotificationDigestBuffer notificationDigestBuffer;
+    private final EventCapacityService eventCapacityService;
+    private final EventSlotService eventSlotService;
+    private final IdempotencyStore idempotencyStore;
 
     // --- MAPPERS ---
 
@@ -38,12 +48,26 @@ public class RegistrationService {
         dto.setUserId(registration.getUser().getId());
         dto.setEventId(registration.getEvent().getId());
         dto.setStatus(registration.getStatus());
+        dto.setCreatedAt(registration.getCreatedAt());
 
         dto.setEventName(registration.getEvent().getName());
         dto.setUsername(registration.getUser().getUsername());
         return dto;
     }
 
+    private RegistrationDto toDto(RegistrationSummary summary) {
+        RegistrationDto dto = new RegistrationDto();
+        dto.setId(summary.id());
+        dto.setUserId(summary.userId());
+        dto.setEventId(summary.eventId());
+        dto.setStatus(summary.status());
+        dto.setCreatedAt(summary.createdAt());
+
+        dto.setEventName(summary.eventName());
+        dto.setUsername(summary.username());
+        return dto;
+    }
+
 
     // --- COMMON ---
 
@@ -55,8 +79,8 @@ public class RegistrationService {
         User currentUser = securityService.getCurrentAuthenticatedUser();
 
         // Access Rule: Admin, The Volunteer, or The Event Manager
-        boolean isVolunteer = registration.getUser().equals(currentUser);
-        boolean isEventManager = registration.getEvent().getOwner().equals(currentUser);
+        boolean isVolunteer = registration.getUser().getId().equals(currentUser.getId());
+        boolean isEventManager = registration.getEvent().getOwner().getId().equals(currentUser.getId());
         boolean isAdmin = securityService.isCurrentUserAdmin();
 
         if (!isVolunteer && !isEventManager && !isAdmin) {
@@ -76,6 +100,58 @@ public class RegistrationService {
      */
     @Transactional(readOnly = true)
     public Page<RegistrationDto> list(RegistrationStatus status, UUID eventId, UUID userId, Pageable pageable) {
+        return registrationRepository.findSummaries(buildListSpec(status, eventId, userId), pageable).map(this::toDto);
+    }
+
+    /**
+     * Keyset variant of {@link #list}: newest first, no count query and no OFFSET scan.
+     * @param cursor Cursor returned with the previous slice, blank for the first one
+     * @param size Slice size
+     */
+    @Transactional(readOnly = true)
+    public Slice<RegistrationDto> listByCursor(RegistrationStatus status, UUID eventId, UUID userId,
+                                               String cursor, int size) {
+        Specification<Registration> spec = buildListSpec(status, eventId, userId)
+                .and(RegistrationSpecifications.createdBefore(Cursor.decode(cursor)));
+
+        List<RegistrationSummary> registrations = registrationRepository.findSummaries(spec, Cursor.SORT, size + 1);
+
+        return Cursor.toSlice(registrations.stream().map(this::toDto).toList(), size);
+    }
+
+    /**
+     * List the current user's own registrations.
+     * @param status Filter by status
+     * @param pageable Pageable
+     */
+    @Transactional(readOnly = true)
+    public Page<RegistrationDto> listMine(RegistrationStatus status, Pageable pageable) {
+        return registrationRepository.findSummaries(buildMineSpec(status), pageable).map(this::toDto);
+    }
+
+    /**
+     * Keyset variant of {@link #listMine}.
+     */
+    @Transactional(readOnly = true)
+    public Slice<RegistrationDto> listMineByCursor(RegistrationStatus status, String cursor, int size) {
+        Specification<Registration> spec = buildMineSpec(status)
+                .and(RegistrationSpecifications.createdBefore(Cursor.decode(cursor)));
+
+        List<RegistrationSummary> registrations = registrationRepository.findSummaries(spec, Cursor.SORT, size + 1);
+
+        return Cursor.toSlice(registrations.stream().map(this::toDto).toList(), size);
+    }
+
+    private Specification<Registration> buildMineSpec(RegistrationStatus status) {
+        UUID currentUserId = securityService.getCurrentPrincipal().getId();
+
+        return Specification.allOf(
+                RegistrationSpecifications.hasStatus(status),
+                RegistrationSpecifications.hasUserId(currentUserId)
+        );
+    }
+
+    private Specification<Registration> buildListSpec(RegistrationStatus status, UUID eventId, UUID userId) {
         User currentUser = securityService.getCurrentAuthenticatedUser();
 
         // 1. Build Base Filter (User-provided criteria)
@@ -87,7 +163,7 @@ public class RegistrationService {
 
         // 2. Rule: Admin can see everything
         if (securityService.isCurrentUserAdmin()) {
-            return registrationRepository.findAll(baseFilter, pageable).map(this::toDto);
+            return baseFilter;
         }
 
         // 3. Define Security Specification (Non-Admin visibility rules)
@@ -107,20 +183,28 @@ public class RegistrationService {
         };
 
         // 4. Combine Base Filter and Security Specification
-        Specification<Registration> finalSpec = baseFilter.and(securitySpec);
-
-        return registrationRepository.findAll(finalSpec, pageable).map(this::toDto);
+        return baseFilter.and(securitySpec);
     }
 
 
     // --- VOLUNTEER ACTIONS ---
 
     /**
-     * Volunteer joins an event.
+     * Volunteer joins an event. Safe to retry: a repeated join returns the existing
+     * registration, and a repeated Idempotency-Key returns the original response.
      */
     @Transactional
-    public RegistrationDto joinEvent(UUID eventId) {
-        User volunteer = securityService.getCurrentAuthenticatedUser();
+    public RegistrationDto joinEvent(UUID eventId, String idempotencyKey) {
+        UserPrincipal volunteer = securityService.getCurrentPrincipal();
+        String operation = "join:" + eventId;
+
+        if (idempotencyKey != null) {
+            RegistrationDto previous = idempotencyStore.find(volunteer.getId(), idempotencyKey, operation, RegistrationDto.class);
+            if (previous != null) {
+                return previous;
+            }
+        }
+
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + eventId));
 
@@ -134,24 +218,41 @@ public class RegistrationService {
             throw new IllegalArgumentException("Registration deadline has passed for this event.");
         }
 
-        Optional<Registration> registration = registrationRepository.getByUserAndEvent(volunteer, event);
-
-        notificationDispatcherService.notifyEventOwner(
-                event,
-                "Thành viên mới",
-                "Có thành viên mới đăng ký tham gia sự kiện của bạn, bấm để xem thêm.",
-                "/event/" + eventId
-        );
+        // 3. Atomic upsert: concurrent taps can't both insert, the loser sees the existing row
+        Instant now = Instant.now();
+        Optional<UUID> insertedId = registrationRepository.insertIfAbsent(
+                volunteer.getId(), eventId, RegistrationStatus.WAITLISTED.name(), now);
+
+        RegistrationDto dto;
+        if (insertedId.isEmpty()) {
+            dto = registrationRepository.findByUserIdAndEventId(volunteer.getId(), eventId)
+                    .map(this::toDto)
+                    .orElseThrow(() -> new ResourceNotFoundException("Registration not found for this event."));
+        } else {
+            // 4. Seat or waitlist, decided atomically on the event row as the last write
+            RegistrationStatus status = RegistrationStatus.WAITLISTED;
+            if (eventCapacityService.tryTakeSeat(eventId)) {
+                status = RegistrationStatus.PENDING;
+                registrationRepository.updateStatus(insertedId.get(), status);
+            }
+
+            dto = toDto(new RegistrationSummary(insertedId.get(), status, now,
+                    volunteer.getId(), volunteer.getUsername(), eventId, event.getName()));
+
+            notificationDigestBuffer.addAfterCommit(
+                    event.getOwner().getId(),
+                    NEW_MEMBER_DIGEST,
+                    "Thành viên mới",
+                    "Có thành viên mới đăng ký tham gia sự kiện của bạn, bấm để xem thêm.",
+                    "Có %d thành viên mới đăng ký tham gia sự kiện của bạn, bấm để xem thêm.",
+                    "/event/" + eventId
+            );
+        }
 
-        return registration.map(this::toDto)
-                .orElseGet(() -> {
-                    Registration newRegistration = Registration.builder()
-                            .user(volunteer)
-                            .event(event)
-                            .status(RegistrationStatus.PENDING)
-                            .build();
-                    return toDto(registrationRepository.save(newRegistration));
-                });
+        if (idempotencyKey != null) {
+            idempotencyStore.storeAfterCommit(volunteer.getId(), idempotencyKey, operation, dto);
+        }
+        return dto;
     }
 
     /**
@@ -171,6 +272,11 @@ public class RegistrationService {
         }
 
         registrationRepository.delete(registration);
+
+        if (EventCapacityService.holdsSeat(registration.getStatus())) {
+            eventSlotService.releaseAll(eventId, volunteer.getId());
+            eventCapacityService.releaseSeat(eventId);
+        }
     }
 
     /**
@@ -184,6 +290,11 @@ public class RegistrationService {
         securityService.validateOwnerOrAdmin(registration.getUser(), currentUser);
 
         registrationRepository.delete(registration);
+
+        if (EventCapacityService.holdsSeat(registration.getStatus())) {
+            eventSlotService.releaseAll(registration.getEvent().getId(), registration.getUser().getId());
+            eventCapacityService.releaseSeat(registration.getEvent().getId());
+        }
     }
 
 
@@ -192,6 +303,7 @@ public class RegistrationService {
     /**
      * Event Manager approves a volunteer.
      */
+    @Transactional
     public RegistrationDto approveRegistration(UUID registrationId) {
         return updateRegistrationStatus(registrationId, RegistrationStatus.APPROVED);
     }
@@ -199,6 +311,7 @@ public class RegistrationService {
     /**
      * Event Manager rejects a volunteer.
      */
+    @Transactional
     public RegistrationDto rejectRegistration(UUID registrationId) {
         return updateRegistrationStatus(registrationId, RegistrationStatus.REJECTED);
     }
@@ -236,8 +349,25 @@ public class RegistrationService {
 
         validateEventManagerAccess(registration);
 
+        // Approving a waitlisted or rejected volunteer needs a free seat, rejecting frees one
+        UUID eventId = registration.getEvent().getId();
+        boolean heldSeat = EventCapacityService.holdsSeat(registration.getStatus());
+        boolean holdsSeat = EventCapacityService.holdsSeat(newStatus);
+
         registration.setStatus(newStatus);
-        return toDto(registrationRepository.save(registration));
+        // Flushed first, so taking the seat is the last write and the event row lock stays short
+        RegistrationDto dto = toDto(registrationRepository.saveAndFlush(registration));
+
+        // Full: the exception rolls the status change back
+        if (!heldSeat && holdsSeat && !eventCapacityService.tryTakeSeat(eventId)) {
+            throw new BadRequestException("Event is full.");
+        }
+
+        if (heldSeat && !holdsSeat) {
+            eventSlotService.releaseAll(eventId, registration.getUser().getId());
+            eventCapacityService.releaseSeat(eventId);
+        }
+        return dto;
     }
 
     private void validateEventManagerAccess(Registration registration) {
@@ -5,24 +5,24 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.volumteerhub.common.enumeration.UserRole;
 import org.volumteerhub.common.exception.ResourceNotFoundException;
 import org.volumteerhub.common.exception.UnauthorizedAccessException;
+import org.volumteerhub.common.security.TokenVersionRegistry;
+import org.volumteerhub.common.security.UserPrincipal;
 import org.volumteerhub.dto.CreateUserRequest;
 import org.volumteerhub.dto.UserResponse;
 import org.volumteerhub.model.User;
 import org.volumteerhub.repository.UserRepository;
 import org.volumteerhub.specification.UserSpecifications;
 
-import java.util.Collection;
-import java.util.List;
+import java.time.Instant;
 import java.util.UUID;
 
 @Service
@@ -30,7 +30,9 @@ import java.util.UUID;
 public class UserService implements UserDetailsService {
 
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final PasswordHashingService passwordHashingService;
+    private final EventCapacityService eventCapacityService;
 
     // CREATE
     public UserResponse createUser(CreateUserRequest req) {
@@ -38,7 +40,7 @@ public class UserService implements UserDetailsService {
                 .firstname(req.getFirstname())
                 .lastname(req.getLastname())
                 .username(req.getUsername())
-                .passwordHash(passwordEncoder.encode(req.getPassword()))
+                .passwordHash(passwordHashingService.encode(req.getPassword()))
                 .role(UserRole.USER)
                 .isActive(Boolean.FALSE)
                 .build();
@@ -77,9 +79,17 @@ public class UserService implements UserDetailsService {
         return toDto(findUserById(id));
     }
 
+    /**
+     * Last modification time for conditional GETs, without loading or mapping the user.
+     */
+    public Instant getVersion(UUID id) {
+        return userRepository.findUpdatedAtById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+    }
+
     // MYSELF
     public UserResponse getMyself() {
-        UUID currentUserId = getCurrentAuthenticatedUser().getId();
+        UUID currentUserId = getCurrentPrincipal().getId();
         return this.get(currentUserId);
     }
 
@@ -105,16 +115,19 @@ public class UserService implements UserDetailsService {
         if (req.getFirstname() != null) userToUpdate.setFirstname(req.getFirstname());
         if (req.getLastname() != null) userToUpdate.setLastname(req.getLastname());
         if (req.getPassword() != null) {
-            userToUpdate.setPasswordHash(passwordEncoder.encode(req.getPassword()));
+            userToUpdate.setPasswordHash(passwordHashingService.encode(req.getPassword()));
         }
 
         return toDto(userRepository.save(userToUpdate));
     }
 
     // DELETE
+    @Transactional
     public void delete() {
         User currentUser = getCurrentAuthenticatedUser();
+        eventCapacityService.releaseAllOf(currentUser.getId());
         userRepository.delete(currentUser);
+        tokenVersionRegistry.revokeAll(currentUser.getId());
     }
 
 
@@ -128,7 +141,9 @@ public class UserService implements UserDetailsService {
 
         User user = findUserById(id);
         user.setIsActive(active);
+        revokeTokens(user);
         userRepository.save(user);
+        tokenVersionRegistry.update(user.getId(), user.getTokenVersion());
 
         return toDto(user);
     }
@@ -141,50 +156,53 @@ public class UserService implements UserDetailsService {
 
         User user = findUserById(id);
         user.setRole(role);
+        revokeTokens(user);
         userRepository.save(user);
+        tokenVersionRegistry.update(user.getId(), user.getTokenVersion());
 
         return toDto(user);
     }
 
     // UTILS
 
+    // Tokens carry role and active flag, so issued ones must be invalidated when either changes
+    private void revokeTokens(User user) {
+        user.setTokenVersion(user.getTokenVersion() + 1);
+    }
+
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
 
-        String role = user.getRole().name();
-
-        Collection<SimpleGrantedAuthority> authorities = List.of(
-                new SimpleGrantedAuthority(role)
-        );
-
-        // Return the Spring Security User object
-        return new org.springframework.security.core.userdetails.User(
-                user.getUsername(),
-                user.getPasswordHash(),
-                authorities
-        );
+        return UserPrincipal.from(user);
     }
 
-    public User getCurrentAuthenticatedUser() {
+    /**
+     * Principal resolved by the JWT filter for the current request.
+     */
+    public UserPrincipal getCurrentPrincipal() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
+        if (authentication == null || !authentication.isAuthenticated()
+                || !(authentication.getPrincipal() instanceof UserPrincipal principal)) {
             throw new UnauthorizedAccessException("User is not authenticated.");
         }
-        String username = authentication.getName();
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with username: " + username));
+        return principal;
     }
 
-    public boolean isCurrentUserAdmin() {
-
-        User currentUser = this.getCurrentAuthenticatedUser();
+    /**
+     * Returns a lazy reference to the current user. No query is issued unless
+     * a field other than the id is read.
+     */
+    public User getCurrentAuthenticatedUser() {
+        return userRepository.getReferenceById(getCurrentPrincipal().getId());
+    }
 
-        return currentUser.getRole() == UserRole.ADMIN;
+    public boolean isCurrentUserAdmin() {
+        return getCurrentPrincipal().isAdmin();
     }
 
     public void validateOwnerOrAdmin(User resourceOwner, User currentUser) {
-        if (!isCurrentUserAdmin() && !resourceOwner.equals(currentUser)) {
+        if (!isCurrentUserAdmin() && !resourceOwner.getId().equals(currentUser.getId())) {
             throw new UnauthorizedAccessException("Operation not permitted.");
         }
     }
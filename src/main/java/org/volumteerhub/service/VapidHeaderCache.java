@@ -0,0 +1,94 @@
+package org.volumteerhub.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jose4j.jws.AlgorithmIdentifiers;
+import org.jose4j.jws.JsonWebSignature;
+import org.jose4j.jwt.JwtClaims;
+import org.jose4j.jwt.NumericDate;
+import org.jose4j.lang.JoseException;
+
+import java.net.URI;
+import java.security.PrivateKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * VAPID Authorization headers keyed by push service origin. The signed JWT only depends on the
+ * audience origin, so one ES256 signature serves every device on fcm.googleapis.com etc.
+ * until shortly before it expires.
+ */
+@Slf4j
+public class VapidHeaderCache {
+
+    private record CachedHeader(String value, Instant refreshAt) {
+    }
+
+    private final PrivateKey privateKey;
+    private final String publicKey;
+    private final String subject;
+    private final Duration ttl;
+    private final Duration refreshBefore;
+    private final Clock clock;
+
+    private final Map<String, CachedHeader> headers = new ConcurrentHashMap<>();
+
+    public VapidHeaderCache(PrivateKey privateKey, String publicKey, String subject,
+                            Duration ttl, Duration refreshBefore) {
+        this(privateKey, publicKey, subject, ttl, refreshBefore, Clock.systemUTC());
+    }
+
+    VapidHeaderCache(PrivateKey privateKey, String publicKey, String subject,
+                     Duration ttl, Duration refreshBefore, Clock clock) {
+        this.privateKey = privateKey;
+        // The k= parameter is the raw public key, URL-safe base64 without padding
+        this.publicKey = publicKey.replace("=", "");
+        this.subject = subject;
+        this.ttl = ttl;
+        this.refreshBefore = refreshBefore;
+        this.clock = clock;
+    }
+
+    /**
+     * @return the Authorization header value for the endpoint's push service.
+     */
+    public String authorization(String endpoint) throws JoseException {
+        String origin = origin(endpoint);
+        Instant now = clock.instant();
+
+        CachedHeader cached = headers.get(origin);
+        if (cached != null && now.isBefore(cached.refreshAt())) {
+            return cached.value();
+        }
+
+        // Two threads may both sign on expiry, either header is valid
+        String value = "vapid t=" + sign(origin, now) + ", k=" + publicKey;
+        headers.put(origin, new CachedHeader(value, now.plus(ttl).minus(refreshBefore)));
+        log.debug("Signed VAPID header for {}", origin);
+        return value;
+    }
+
+    private String sign(String audience, Instant now) throws JoseException {
+        JwtClaims claims = new JwtClaims();
+        claims.setAudience(audience);
+        // Same clock reading as refreshAt, so the header is always refreshed before it expires
+        claims.setExpirationTime(NumericDate.fromSeconds(now.plus(ttl).getEpochSecond()));
+        claims.setSubject(subject);
+
+        JsonWebSignature jws = new JsonWebSignature();
+        jws.setHeader("typ", "JWT");
+        jws.setAlgorithmHeaderValue(AlgorithmIdentifiers.ECDSA_USING_P256_CURVE_AND_SHA256);
+        jws.setPayload(claims.toJson());
+        jws.setKey(privateKey);
+        return jws.getCompactSerialization();
+    }
+
+    private static String origin(String endpoint) {
+        URI uri = URI.create(endpoint);
+        return uri.getPort() == -1
+                ? uri.getScheme() + "://" + uri.getHost()
+                : uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+    }
+}
@@ -3,23 +3,40 @@ package org.volumteerhub.service;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import nl.martijndwars.webpush.Encoding;
 import nl.martijndwars.webpush.Notification;
 import nl.martijndwars.webpush.PushService;
 import nl.martijndwars.webpush.Subscription;
+import nl.martijndwars.webpush.Utils;
 
-import org.apache.http.HttpResponse;
+import org.apache.http.Header;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.util.EntityUtils;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.jose4j.lang.JoseException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.volumteerhub.config.VapidConfig;
 import org.volumteerhub.model.PushSubscription;
 import org.volumteerhub.model.User;
 import org.volumteerhub.repository.PushSubscriptionRepository;
 
 
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.security.GeneralSecurityException;
 import java.security.Security;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 @Slf4j
 @Service
@@ -29,7 +46,27 @@ public class WebPushService {
     private final PushSubscriptionRepository pushSubscriptionRepository;
     private final UserService userService;
     private final VapidConfig vapidConfig;
+    private final PushFanoutService pushFanoutService;
+    private final PushCircuitBreaker pushCircuitBreaker;
+    private final NotificationDispatcherService notificationDispatcherService;
+
+    // Encrypts only: VAPID headers come from the cache instead of a new signature per send
     private PushService pushService = null;
+    private VapidHeaderCache vapidHeaderCache = null;
+
+    // Keeps IN lists well under the driver's bind parameter limit
+    private static final int SUBSCRIPTION_CHUNK_SIZE = 1000;
+
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("content-length", "host", "connection");
+
+    @Value("${app.notification.push.request-timeout-seconds:10}")
+    private long requestTimeoutSeconds;
+
+    @Value("${app.notification.push.vapid-ttl-hours:12}")
+    private long vapidTtlHours;
+
+    @Value("${app.notification.push.vapid-refresh-before-minutes:60}")
+    private long vapidRefreshBeforeMinutes;
 
     @PostConstruct
     private void init() throws Exception {
@@ -39,10 +76,13 @@ public class WebPushService {
             return;
         }
         Security.addProvider(new BouncyCastleProvider());
-        pushService = new PushService(
+        pushService = new PushService();
+        vapidHeaderCache = new VapidHeaderCache(
+                Utils.loadPrivateKey(vapidConfig.getPrivateKey()),
                 vapidConfig.getPublicKey(),
-                vapidConfig.getPrivateKey(),
-                vapidConfig.getSubject()
+                vapidConfig.getSubject(),
+                Duration.ofHours(vapidTtlHours),
+                Duration.ofMinutes(vapidRefreshBeforeMinutes)
         );
     }
 
@@ -51,6 +91,8 @@ public class WebPushService {
     }
 
 
+    // The confirmation goes through the outbox, committed together with the subscription
+    @Transactional
     public void subscribe(Subscription subscription) {
         User currentUser = userService.getCurrentAuthenticatedUser();
 
@@ -65,8 +107,10 @@ public class WebPushService {
                                     .user(currentUser)
                                     .build();
                             pushSubscriptionRepository.save(newSub);
+                            pushCircuitBreaker.reset(subscription.endpoint);
                             log.debug("Successfully saved new subscription to database");
-                            this.sendNotificationToCurrentUser("Subscribed!", "Device registered successfully.");
+                            notificationDispatcherService.sendToUserIds(List.of(currentUser.getId()),
+                                    "Subscribed!", "Device registered successfully.", null);
                         }
                 );
 
@@ -120,43 +164,99 @@ public class WebPushService {
     }
 
     public void sendNotificationToUser(User user, String payload) {
-        List<PushSubscription> subs = user.getPushSubscriptions();
+        List<PushSubscription> subs = pushSubscriptionRepository.findByUserId(user.getId());
 
         if (subs == null || subs.isEmpty()) {
             log.error("No subscriptions found for user: {}", user.getUsername());
             return;
         }
+        if (pushService == null) {
+            return;
+        }
 
+        List<PushSubscription> prepared = new ArrayList<>();
+        List<HttpRequest> requests = new ArrayList<>();
         for (PushSubscription subEntity : subs) {
-            Subscription browserSub = new Subscription(
-                    subEntity.getEndpoint(),
-                    new Subscription.Keys(subEntity.getP256dh(), subEntity.getAuth())
-            );
-            this.sendToBrowser(browserSub, payload);
+            try {
+                requests.add(prepareRequest(subEntity, payload));
+                prepared.add(subEntity);
+            } catch (Exception e) {
+                log.error("Error preparing push: {}", e.getMessage());
+            }
+        }
+
+        List<PushFanoutService.Outcome> outcomes = pushFanoutService.sendAll(requests);
+        List<UUID> gone = new ArrayList<>();
+        for (int i = 0; i < outcomes.size(); i++) {
+            if (outcomes.get(i) == PushFanoutService.Outcome.GONE) {
+                gone.add(prepared.get(i).getId());
+            }
         }
+        removeSubscriptions(gone);
     }
 
-    private void sendToBrowser(Subscription subscription, String payload) {
-        if (pushService == null) {
-            return;
+    public String buildPayload(String title, String body, String url) {
+        return String.format(
+                "{\"title\": \"%s\", \"body\": \"%s\", \"url\": \"%s\"}",
+                title, body, url
+        );
+    }
+
+    /**
+     * Loads the devices of all recipients with one IN query per chunk of users,
+     * grouped by user for payload rendering.
+     */
+    public Map<UUID, List<PushSubscription>> findSubscriptions(Collection<UUID> userIds) {
+        Map<UUID, List<PushSubscription>> subscriptions = new HashMap<>();
+        List<UUID> ids = List.copyOf(userIds);
+
+        for (int from = 0; from < ids.size(); from += SUBSCRIPTION_CHUNK_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + SUBSCRIPTION_CHUNK_SIZE, ids.size()));
+            for (PushSubscription subscription : pushSubscriptionRepository.findByUserIdIn(chunk)) {
+                // getId() on the lazy user proxy doesn't load it
+                subscriptions.computeIfAbsent(subscription.getUser().getId(), id -> new ArrayList<>())
+                        .add(subscription);
+            }
         }
-        try {
-            Notification notification = new Notification(subscription, payload);
-            HttpResponse response = pushService.send(notification);
-
-            int statusCode = response.getStatusLine().getStatusCode();
-            switch (statusCode) {
-                case 201 -> log.debug("Push sent successfully (201)");
-                case 403 -> log.error("403 Forbidden: Check VAPID keys/Subject");
-                case 410 -> {
-                    log.warn("410 Gone: User unsubscribed. Removing from DB.");
-                    pushSubscriptionRepository.findByEndpoint(subscription.endpoint)
-                            .ifPresent(pushSubscriptionRepository::delete);
-                }
-                default -> log.error("Unexpected Push Service Response: {}", statusCode);
+        return subscriptions;
+    }
+
+    /**
+     * Prunes expired or dead subscriptions with a single DELETE ... WHERE id IN.
+     */
+    public void removeSubscriptions(Collection<UUID> subscriptionIds) {
+        if (!subscriptionIds.isEmpty()) {
+            log.warn("Removing {} expired push subscriptions", subscriptionIds.size());
+            pushSubscriptionRepository.deleteAllByIdInBatch(subscriptionIds);
+        }
+    }
+
+    /**
+     * Encrypts the payload for the device and adds the cached VAPID header, ready for PushFanoutService.
+     */
+    public HttpRequest prepareRequest(PushSubscription subscription, String payload)
+            throws GeneralSecurityException, IOException, JoseException {
+        Notification notification = new Notification(
+                new Subscription(subscription.getEndpoint(),
+                        new Subscription.Keys(subscription.getP256dh(), subscription.getAuth())),
+                payload
+        );
+        HttpPost post = pushService.preparePost(notification, Encoding.AES128GCM);
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(subscription.getEndpoint()))
+                .timeout(Duration.ofSeconds(requestTimeoutSeconds))
+                .POST(HttpRequest.BodyPublishers.ofByteArray(EntityUtils.toByteArray(post.getEntity())))
+                .header("Authorization", vapidHeaderCache.authorization(subscription.getEndpoint()));
+        for (Header header : post.getAllHeaders()) {
+            // The JDK client sets these itself and refuses them
+            if (!RESTRICTED_HEADERS.contains(header.getName().toLowerCase())) {
+                request.header(header.getName(), header.getValue());
             }
-        } catch (Exception e) {
-            log.error("Error sending push: {}", e.getMessage());
         }
+        return request.build();
+    }
+
+    public boolean isEnabled() {
+        return pushService != null;
     }
 }
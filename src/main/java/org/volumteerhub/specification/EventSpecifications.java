@@ -1,9 +1,15 @@
 package org.volumteerhub.specification;
 
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 import org.volumteerhub.common.enumeration.EventStatus;
 import org.volumteerhub.model.Event;
+import org.volumteerhub.util.Cursor;
+import org.volumteerhub.util.StringUtil;
 
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.UUID;
 
 public class EventSpecifications {
@@ -18,9 +24,51 @@ public class EventSpecifications {
                 ownerId == null ? null : cb.equal(root.get("owner").get("id"), ownerId);
     }
 
-    public static Specification<Event> nameContains(String search) {
-        return (root, query, cb) ->
-                search == null ? null : cb.like(cb.lower(root.get("name")), "%" + search.toLowerCase() + "%");
+    /**
+     * Accent-insensitive match of every search word against name, description and location.
+     * The LIKE patterns are served by the trigram index on search_text.
+     */
+    public static Specification<Event> searchMatches(String search) {
+        return (root, query, cb) -> {
+            String folded = StringUtil.foldForSearch(search);
+            if (folded.isEmpty()) {
+                return null;
+            }
+
+            Expression<String> searchText = root.get("searchText");
+            Predicate[] terms = Arrays.stream(folded.split(" "))
+                    .map(term -> cb.like(searchText, "%" + term + "%"))
+                    .toArray(Predicate[]::new);
+            return cb.and(terms);
+        };
+    }
+
+    /**
+     * Orders by pg_trgm word similarity to the search, newest first on ties. Adds no predicate.
+     * Only combine with unsorted pages: it is the whole ORDER BY, a Pageable sort would be appended after it.
+     */
+    public static Specification<Event> orderByRelevance(String search) {
+        return (root, query, cb) -> {
+            String folded = StringUtil.foldForSearch(search);
+            if (!folded.isEmpty() && query != null) {
+                Expression<String> searchText = root.get("searchText");
+                query.orderBy(
+                        cb.desc(cb.function("word_similarity", Double.class, cb.literal(folded), searchText)),
+                        cb.desc(root.get("createdAt"))
+                );
+            }
+            return null;
+        };
+    }
+
+    public static Specification<Event> createdBefore(Cursor cursor) {
+        return (root, query, cb) -> cursor == null ? null : cb.or(
+                cb.lessThan(root.<Instant>get("createdAt"), cursor.createdAt()),
+                cb.and(
+                        cb.equal(root.get("createdAt"), cursor.createdAt()),
+                        cb.lessThan(root.<UUID>get("id"), cursor.id())
+                )
+        );
     }
 }
 
@@ -3,7 +3,9 @@ package org.volumteerhub.specification;
 import org.springframework.data.jpa.domain.Specification;
 import org.volumteerhub.common.enumeration.RegistrationStatus;
 import org.volumteerhub.model.Registration;
+import org.volumteerhub.util.Cursor;
 
+import java.time.Instant;
 import java.util.UUID;
 
 public class RegistrationSpecifications {
@@ -19,4 +21,14 @@ public class RegistrationSpecifications {
     public static Specification<Registration> hasUserId(UUID userId) {
         return (root, query, cb) -> userId == null ? null : cb.equal(root.get("user").get("id"), userId);
     }
+
+    public static Specification<Registration> createdBefore(Cursor cursor) {
+        return (root, query, cb) -> cursor == null ? null : cb.or(
+                cb.lessThan(root.<Instant>get("createdAt"), cursor.createdAt()),
+                cb.and(
+                        cb.equal(root.get("createdAt"), cursor.createdAt()),
+                        cb.lessThan(root.<UUID>get("id"), cursor.id())
+                )
+        );
+    }
 }
\ No newline at end of file
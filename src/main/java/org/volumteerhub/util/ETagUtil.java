@@ -0,0 +1,14 @@
+package org.volumteerhub.util;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public class ETagUtil {
+
+    /**
+     * Weak validator for an audited entity: changes whenever updatedAt does.
+     */
+    public static String weak(UUID id, Instant updatedAt) {
+        return "W/\"" + id + "-" + updatedAt.toEpochMilli() + "\"";
+    }
+}
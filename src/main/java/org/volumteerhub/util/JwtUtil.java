@@ -1,12 +1,27 @@
 package org.volumteerhub.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.io.Decoders;
+import org.volumteerhub.common.enumeration.UserRole;
+import org.volumteerhub.common.security.UserPrincipal;
+import org.volumteerhub.model.User;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 
 public class JwtUtil {
 
@@ -15,34 +30,92 @@ public class JwtUtil {
 
     private static final Key KEY = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY_STRING));
 
-    private static final long EXPIRATION_MS = 1000 * 60 * 60 * 24; // 24h
+    // Parsers are immutable and thread-safe, build it once
+    private static final JwtParser PARSER = Jwts.parser()
+            .verifyWith((SecretKey) KEY)
+            .build();
+
+    public static final long EXPIRATION_MS = 1000 * 60 * 60 * 24; // 24h
+
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_ROLE = "role";
+    private static final String CLAIM_TOKEN_VERSION = "ver";
+
+    // Verified tokens keyed by SHA-256 digest, each dropped when its token expires
+    private static final int VERIFIED_CACHE_MAX_SIZE = 10_000;
+    private static final Cache<String, Claims> VERIFIED_TOKENS = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_CACHE_MAX_SIZE)
+            .expireAfter(Expiry.creating((String digest, Claims claims) -> untilExpiry(claims)))
+            .build();
 
     /**
-     * Generates a JWT token for the given username.
-     * Uses the modern Jwts.builder() style.
+     * Generates a JWT token for the given user.
+     * The token carries everything the filter needs to authenticate without a DB lookup.
      */
-    public static String generateToken(String username) {
+    public static String generateToken(User user) {
         Date now = new Date();
         Date expiration = new Date(System.currentTimeMillis() + EXPIRATION_MS);
 
         return Jwts.builder()
-                .subject(username)
+                .subject(user.getUsername())
+                .claim(CLAIM_USER_ID, user.getId().toString())
+                .claim(CLAIM_ROLE, user.getRole().name())
+                .claim(CLAIM_TOKEN_VERSION, user.getTokenVersion())
                 .issuedAt(now)
                 .expiration(expiration)
                 .signWith(KEY) // Corrected signature
                 .compact();
     }
 
+    /**
+     * Verifies signature and expiry once and returns the claims.
+     * A token seen before is served from the cache until it expires.
+     * @param token the raw JWT
+     * @return the verified claims, or null if the token is invalid or expired.
+     */
+    public static Claims verify(String token) {
+        String digest = digest(token);
+
+        // Expired entries are never returned, expired tokens fall through to the parser and fail there
+        Claims cached = VERIFIED_TOKENS.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = parse(token);
+        if (claims != null && claims.getExpiration() != null) {
+            VERIFIED_TOKENS.put(digest, claims);
+        }
+        return claims;
+    }
+
     /**
      * Extracts the username from a JWT token.
      */
     public static String getUsernameFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith((SecretKey) KEY)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        Claims claims = verify(token);
+        return claims != null ? claims.getSubject() : null;
+    }
+
+    /**
+     * Builds the request principal from verified claims.
+     * @return the principal, or null if the token predates the claims-based format.
+     */
+    public static UserPrincipal getPrincipal(Claims claims) {
+        String userId = claims.get(CLAIM_USER_ID, String.class);
+        String role = claims.get(CLAIM_ROLE, String.class);
+        Integer tokenVersion = claims.get(CLAIM_TOKEN_VERSION, Integer.class);
+        if (userId == null || role == null || tokenVersion == null) {
+            return null;
+        }
+
+        return new UserPrincipal(
+                UUID.fromString(userId),
+                claims.getSubject(),
+                null,
+                UserRole.valueOf(role),
+                tokenVersion
+        );
     }
 
     /**
@@ -51,14 +124,33 @@ public class JwtUtil {
      * @return true if token is valid, false if not.
      */
     public static boolean validateToken(String token) {
+        return verify(token) != null;
+    }
+
+    /**
+     * Full signature and expiry check, bypassing the cache.
+     * @return the claims, or null if the token is invalid or expired.
+     */
+    static Claims parse(String token) {
         try {
-            Jwts.parser()
-                .verifyWith((SecretKey) KEY)
-                .build()
-                .parseSignedClaims(token);
-            return true;
+            return PARSER.parseSignedClaims(token).getPayload();
         } catch (Exception e) {
-            return false;
+            return null;
+        }
+    }
+
+    private static Duration untilExpiry(Claims claims) {
+        Duration remaining = Duration.between(Instant.now(), claims.getExpiration().toInstant());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] hash = sha256.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,35 @@
 package org.volumteerhub.util;
 
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
 public class StringUtil {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
     public static <T extends Enum<T>> T getEnumFromString(String enumValue, Class<T> enumClass) {
         return Enum.valueOf(enumClass, enumValue.toUpperCase());
     }
+
+    /**
+     * Folds text for accent-insensitive search: strips diacritics ("Dọn rác" -> "don rac"),
+     * lower-cases and collapses punctuation and whitespace to single spaces.
+     * @return the folded text, empty if the input is null or has no letters/digits.
+     */
+    public static String foldForSearch(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("")
+                // đ/Đ is a separate letter, not d + combining mark
+                .replace('đ', 'd')
+                .replace('Đ', 'D')
+                .toLowerCase(Locale.ROOT);
+
+        return NON_ALPHANUMERIC.matcher(stripped).replaceAll(" ").trim();
+    }
 }
@@ -0,0 +1,65 @@
+package org.volumteerhub.common.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.volumteerhub.repository.RevokedUserRepository;
+import org.volumteerhub.repository.UserRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenVersionRegistryTest {
+
+    private final RevokedUserRepository revokedUserRepository = mock(RevokedUserRepository.class);
+    private final TokenVersionRegistry registry =
+            new TokenVersionRegistry(mock(UserRepository.class), revokedUserRepository);
+
+    private final UUID userId = UUID.randomUUID();
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void revocationAppliesOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        registry.revokeAll(userId);
+
+        assertThat(registry.isCurrent(userId, 0)).isTrue();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(registry.isCurrent(userId, 0)).isFalse();
+    }
+
+    @Test
+    void rolledBackRevocationLeavesTokensValid() {
+        TransactionSynchronizationManager.initSynchronization();
+        registry.revokeAll(userId);
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertThat(registry.isCurrent(userId, 0)).isTrue();
+    }
+
+    @Test
+    void pruneDropsExpiredTombstones() {
+        registry.revokeAll(userId);
+        when(revokedUserRepository.findUserIdsRevokedBefore(any())).thenReturn(List.of(userId));
+
+        registry.pruneExpiredTombstones();
+
+        verify(revokedUserRepository).deleteAllByIdInBatch(List.of(userId));
+        assertThat(registry.isCurrent(userId, 0)).isTrue();
+    }
+}
@@ -0,0 +1,137 @@
+package org.volumteerhub.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.volumteerhub.util.StringUtil;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The old lower(name) LIKE scan against the folded, trigram-indexed search_text, over 1M rows
+ * in a scratch table shaped like event's search columns. Needs the Postgres of application.properties
+ * (override with -Dbenchmark.jdbc.url/.user/.password) and the pg_trgm extension.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EventSearchBenchmark {
+
+    private static final String TABLE = "event_search_benchmark";
+    private static final int ROWS = 1_000_000;
+    private static final int PAGE = 20;
+
+    private static final String[] ACTIVITIES = {
+            "Dọn rác bãi biển", "Trồng cây xanh", "Hiến máu nhân đạo", "Dạy học miễn phí",
+            "Nấu cơm từ thiện", "Sửa nhà tình thương", "Quyên góp sách vở", "Chăm sóc người già"
+    };
+
+    private Connection connection;
+    private PreparedStatement likeScan;
+    private PreparedStatement trigramSearch;
+
+    @Setup
+    public void createTable() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5432/volumteerhub"),
+                System.getProperty("benchmark.jdbc.user", "volumteerhub_user"),
+                System.getProperty("benchmark.jdbc.password", "password"));
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE UNLOGGED TABLE " + TABLE
+                    + " (id bigint PRIMARY KEY, name text NOT NULL, search_text text NOT NULL, created_at timestamptz NOT NULL)");
+
+            // Names cycle through the activities with a running number; search_text is their folded form
+            statement.execute("INSERT INTO " + TABLE + " "
+                    + "SELECT g, a.name || ' ' || g, a.folded || ' ' || g, now() - g * interval '1 second' "
+                    + "FROM generate_series(1, " + ROWS + ") g "
+                    + "JOIN (VALUES " + activities() + ") a(k, name, folded) ON a.k = g % " + ACTIVITIES.length);
+            statement.execute("CREATE INDEX ON " + TABLE + " USING gin (search_text gin_trgm_ops)");
+            statement.execute("ANALYZE " + TABLE);
+        }
+
+        // What the old EventSpecifications.nameContains ran, before the search column existed
+        likeScan = connection.prepareStatement("SELECT id FROM " + TABLE
+                + " WHERE lower(name) LIKE ? ORDER BY created_at DESC LIMIT " + PAGE);
+        likeScan.setString(1, "%trồng cây xanh 424241%");
+
+        // searchMatches + orderByRelevance: every folded term through the trigram index, ranked
+        String folded = StringUtil.foldForSearch("trong cay 424241");
+        String[] terms = folded.split(" ");
+        trigramSearch = connection.prepareStatement("SELECT id FROM " + TABLE
+                + " WHERE " + String.join(" AND ", Collections.nCopies(terms.length, "search_text LIKE ?"))
+                + " ORDER BY word_similarity(?, search_text) DESC, created_at DESC LIMIT " + PAGE);
+        for (int i = 0; i < terms.length; i++) {
+            trigramSearch.setString(i + 1, "%" + terms[i] + "%");
+        }
+        trigramSearch.setString(terms.length + 1, folded);
+    }
+
+    @TearDown
+    public void dropTable() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public List<Long> likeScan() throws SQLException {
+        return ids(likeScan);
+    }
+
+    @Benchmark
+    public List<Long> trigramSearch() throws SQLException {
+        return ids(trigramSearch);
+    }
+
+    private static List<Long> ids(PreparedStatement query) throws SQLException {
+        List<Long> ids = new ArrayList<>(PAGE);
+        try (ResultSet rs = query.executeQuery()) {
+            while (rs.next()) {
+                ids.add(rs.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    private static String activities() {
+        List<String> rows = new ArrayList<>();
+        for (int i = 0; i < ACTIVITIES.length; i++) {
+            rows.add("(" + i + ", '" + ACTIVITIES[i] + "', '" + StringUtil.foldForSearch(ACTIVITIES[i]) + "')");
+        }
+        return String.join(", ", rows);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EventSearchBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
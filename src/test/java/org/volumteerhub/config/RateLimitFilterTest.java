@@ -0,0 +1,86 @@
+package org.volumteerhub.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.volumteerhub.config.RateLimitFilter.TokenBucket;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitFilterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long START = 1_000 * SECOND;
+
+    @Test
+    void bucketAllowsABurstThenReportsTheWait() {
+        TokenBucket bucket = new TokenBucket(rule(3, 1.0), START);
+
+        assertThat(bucket.tryAcquire(START)).isZero();
+        assertThat(bucket.tryAcquire(START)).isZero();
+        assertThat(bucket.tryAcquire(START)).isZero();
+        assertThat(bucket.tryAcquire(START)).isEqualTo(SECOND);
+    }
+
+    @Test
+    void bucketRefillsOneTokenPerInterval() {
+        TokenBucket bucket = new TokenBucket(rule(2, 2.0), START);
+        bucket.tryAcquire(START);
+        bucket.tryAcquire(START);
+
+        long interval = SECOND / 2;
+        assertThat(bucket.tryAcquire(START + interval - 1)).isEqualTo(1);
+        assertThat(bucket.tryAcquire(START + interval)).isZero();
+        assertThat(bucket.tryAcquire(START + interval)).isEqualTo(interval);
+    }
+
+    @Test
+    void idleBucketRefillsOnlyUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(rule(2, 1.0), START);
+
+        long later = START + 60 * SECOND;
+        assertThat(bucket.tryAcquire(later)).isZero();
+        assertThat(bucket.tryAcquire(later)).isZero();
+        assertThat(bucket.tryAcquire(later)).isPositive();
+    }
+
+    @Test
+    void rejectsRulesThatCannotRefill() {
+        assertThatThrownBy(() -> filter(rule(10, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> filter(rule(10, Double.NaN)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> filter(rule(10, Double.POSITIVE_INFINITY)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsEmptyBuckets() {
+        assertThatThrownBy(() -> filter(rule(0, 1.0)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void acceptsValidRules() {
+        filter(rule(10, 0.2));
+    }
+
+    private static RateLimitFilter filter(RateLimitProperties.Rule rule) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(rule));
+        return new RateLimitFilter(properties, new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    private static RateLimitProperties.Rule rule(int capacity, double refillPerSecond) {
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setName("test");
+        rule.setPattern("/api/test/**");
+        rule.setCapacity(capacity);
+        rule.setRefillPerSecond(refillPerSecond);
+        return rule;
+    }
+}
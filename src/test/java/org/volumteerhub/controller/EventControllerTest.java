@@ -0,0 +1,77 @@
+package org.volumteerhub.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.volumteerhub.dto.EventDto;
+import org.volumteerhub.service.EventService;
+import org.volumteerhub.util.ETagUtil;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class EventControllerTest {
+
+    private static final Instant UPDATED_AT = Instant.parse("2025-03-01T10:15:30Z");
+
+    private final EventService eventService = mock(EventService.class);
+    private final UUID id = UUID.randomUUID();
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new EventController(eventService)).build();
+
+        EventDto dto = new EventDto();
+        dto.setId(id);
+        dto.setName("Beach clean-up");
+        when(eventService.getVersion(id)).thenReturn(UPDATED_AT);
+        when(eventService.get(id)).thenReturn(dto);
+    }
+
+    @Test
+    void firstReadCarriesValidators() throws Exception {
+        mockMvc.perform(get("/api/events/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETagUtil.weak(id, UPDATED_AT)))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, UPDATED_AT.toEpochMilli()))
+                .andExpect(jsonPath("$.name").value("Beach clean-up"));
+    }
+
+    @Test
+    void currentETagIsAnsweredWithoutLoadingTheEvent() throws Exception {
+        mockMvc.perform(get("/api/events/{id}", id)
+                        .header(HttpHeaders.IF_NONE_MATCH, ETagUtil.weak(id, UPDATED_AT)))
+                .andExpect(status().isNotModified());
+
+        verify(eventService, never()).get(id);
+    }
+
+    @Test
+    void currentLastModifiedIsAnsweredWithoutLoadingTheEvent() throws Exception {
+        mockMvc.perform(get("/api/events/{id}", id)
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, UPDATED_AT.toEpochMilli()))
+                .andExpect(status().isNotModified());
+
+        verify(eventService, never()).get(id);
+    }
+
+    @Test
+    void staleETagGetsTheEvent() throws Exception {
+        mockMvc.perform(get("/api/events/{id}", id)
+                        .header(HttpHeaders.IF_NONE_MATCH, ETagUtil.weak(id, UPDATED_AT.minusSeconds(60))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(id.toString()));
+    }
+}
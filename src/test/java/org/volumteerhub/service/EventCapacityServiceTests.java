@@ -0,0 +1,205 @@
+package org.volumteerhub.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.volumteerhub.common.enumeration.EventStatus;
+import org.volumteerhub.common.enumeration.RegistrationStatus;
+import org.volumteerhub.common.enumeration.UserRole;
+import org.volumteerhub.common.security.UserPrincipal;
+import org.volumteerhub.dto.RegistrationDto;
+import org.volumteerhub.model.Event;
+import org.volumteerhub.model.Registration;
+import org.volumteerhub.model.User;
+import org.volumteerhub.repository.EventRepository;
+import org.volumteerhub.repository.RegistrationRepository;
+import org.volumteerhub.repository.UserRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class EventCapacityServiceTests {
+
+    private static final int JOINERS = 10_000;
+    private static final int CAPACITY = 100;
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private EventCapacityService eventCapacityService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<User> users = new ArrayList<>();
+    private Event event;
+
+    @BeforeEach
+    void createEvent() {
+        Instant start = Instant.now().plus(Duration.ofDays(7));
+        event = eventRepository.save(Event.builder()
+                .owner(user())
+                .name("Capacity")
+                .dateDeadline(start.minus(Duration.ofDays(1)))
+                .startDate(start)
+                .endDate(start.plus(Duration.ofHours(4)))
+                .status(EventStatus.APPROVED)
+                .maxParticipants(1)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        registrationRepository.deleteAllInBatch(registrationRepository.findByEventId(event.getId()));
+        eventRepository.deleteById(event.getId());
+        userRepository.deleteAllInBatch(users);
+    }
+
+    @Test
+    void seatsRunOutAtMaxParticipants() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        assertThat(transaction.execute(status -> eventCapacityService.tryTakeSeat(event.getId()))).isTrue();
+        assertThat(transaction.execute(status -> eventCapacityService.tryTakeSeat(event.getId()))).isFalse();
+
+        assertThat(seatsTaken()).isEqualTo(1);
+    }
+
+    @Test
+    void cachedEventIsEvictedOnlyAfterCommit() {
+        Cache cache = cacheManager.getCache(EventService.EVENTS_CACHE);
+        cache.put(event.getId(), "stale");
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventCapacityService.tryTakeSeat(event.getId());
+            assertThat(cache.get(event.getId())).isNotNull();
+        });
+
+        assertThat(cache.get(event.getId())).isNull();
+    }
+
+    @Test
+    void deletedUsersSeatGoesToTheWaitlist() {
+        User leaving = user();
+        User waiting = user();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventCapacityService.tryTakeSeat(event.getId());
+            register(leaving, RegistrationStatus.APPROVED);
+        });
+        Registration waitlisted = register(waiting, RegistrationStatus.WAITLISTED);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+                status -> eventCapacityService.releaseAllOf(leaving.getId()));
+
+        assertThat(registrationRepository.findByUserId(leaving.getId())).isEmpty();
+        assertThat(registrationRepository.findById(waitlisted.getId()))
+                .hasValueSatisfying(r -> assertThat(r.getStatus()).isEqualTo(RegistrationStatus.PENDING));
+        assertThat(seatsTaken()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentJoinsNeverOverbook() throws Exception {
+        event.setMaxParticipants(CAPACITY);
+        event = eventRepository.save(event);
+
+        List<User> joiners = new ArrayList<>();
+        for (int i = 0; i < JOINERS; i++) {
+            joiners.add(User.builder()
+                    .firstname("Joiner")
+                    .lastname(String.valueOf(i))
+                    .username("joiner-" + UUID.randomUUID())
+                    .passwordHash("unused")
+                    .role(UserRole.USER)
+                    .isActive(true)
+                    .build());
+        }
+        users.addAll(userRepository.saveAll(joiners));
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<RegistrationDto>> joins = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (User joiner : users.subList(users.size() - JOINERS, users.size())) {
+                joins.add(executor.submit(() -> {
+                    UserPrincipal principal = UserPrincipal.from(joiner);
+                    SecurityContextHolder.getContext().setAuthentication(
+                            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+                    start.await();
+                    return registrationService.joinEvent(event.getId(), null);
+                }));
+            }
+            start.countDown();
+
+            Map<RegistrationStatus, Long> outcomes = new EnumMap<>(RegistrationStatus.class);
+            for (Future<RegistrationDto> join : joins) {
+                outcomes.merge(join.get(5, TimeUnit.MINUTES).getStatus(), 1L, Long::sum);
+            }
+
+            assertThat(outcomes).containsOnly(
+                    Map.entry(RegistrationStatus.PENDING, (long) CAPACITY),
+                    Map.entry(RegistrationStatus.WAITLISTED, (long) (JOINERS - CAPACITY)));
+        }
+
+        assertThat(seatsTaken()).isEqualTo(CAPACITY);
+        assertThat(registrationRepository.countByEventIdAndStatusIn(event.getId(), EventCapacityService.SEAT_HOLDING))
+                .isEqualTo(CAPACITY);
+    }
+
+    private int seatsTaken() {
+        return eventRepository.findById(event.getId()).orElseThrow().getSeatsTaken();
+    }
+
+    private Registration register(User user, RegistrationStatus status) {
+        return registrationRepository.save(Registration.builder()
+                .user(user)
+                .event(event)
+                .status(status)
+                .build());
+    }
+
+    private User user() {
+        User user = userRepository.save(User.builder()
+                .firstname("Capacity")
+                .lastname("Test")
+                .username("capacity-" + UUID.randomUUID())
+                .passwordHash("unused")
+                .role(UserRole.USER)
+                .isActive(true)
+                .build());
+        users.add(user);
+        return user;
+    }
+}
@@ -0,0 +1,108 @@
+package org.volumteerhub.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Slice;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.volumteerhub.common.enumeration.EventStatus;
+import org.volumteerhub.common.enumeration.UserRole;
+import org.volumteerhub.common.security.UserPrincipal;
+import org.volumteerhub.dto.EventDto;
+import org.volumteerhub.model.Event;
+import org.volumteerhub.model.User;
+import org.volumteerhub.repository.EventRepository;
+import org.volumteerhub.repository.UserRepository;
+import org.volumteerhub.util.Cursor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class EventCursorPaginationTests {
+
+    private static final int EVENTS = 7;
+    private static final int SIZE = 3;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private final List<Event> events = new ArrayList<>();
+
+    @BeforeEach
+    void createEvents() {
+        owner = userRepository.save(User.builder()
+                .firstname("Cursor")
+                .lastname("Walk")
+                .username("cursor-walk-" + UUID.randomUUID())
+                .passwordHash("unused")
+                .role(UserRole.USER)
+                .isActive(true)
+                .build());
+
+        Instant start = Instant.now().plus(Duration.ofDays(7));
+        for (int i = 0; i < EVENTS; i++) {
+            events.add(eventRepository.save(Event.builder()
+                    .owner(owner)
+                    .name("Cursor walk " + i)
+                    .dateDeadline(start.minus(Duration.ofDays(1)))
+                    .startDate(start)
+                    .endDate(start.plus(Duration.ofHours(4)))
+                    .status(EventStatus.APPROVED)
+                    .build()));
+        }
+
+        UserPrincipal principal = UserPrincipal.from(owner);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        eventRepository.deleteAll(events);
+        userRepository.deleteById(owner.getId());
+    }
+
+    @Test
+    void walkingTheCursorVisitsEveryEventOnceNewestFirst() {
+        List<EventDto> visited = new ArrayList<>();
+        List<Integer> sliceSizes = new ArrayList<>();
+
+        String cursor = "";
+        while (true) {
+            Slice<EventDto> slice = eventService.listByCursor(
+                    EventStatus.APPROVED, owner.getId(), null, cursor, SIZE);
+            visited.addAll(slice.getContent());
+            sliceSizes.add(slice.getNumberOfElements());
+            if (!slice.hasNext()) {
+                break;
+            }
+            EventDto last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            cursor = new Cursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        assertThat(sliceSizes).containsExactly(3, 3, 1);
+        assertThat(visited).extracting(EventDto::getId)
+                .doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(events.stream().map(Event::getId).toList());
+        assertThat(visited).isSortedAccordingTo(
+                Comparator.comparing(EventDto::getCreatedAt, Comparator.reverseOrder()));
+    }
+}
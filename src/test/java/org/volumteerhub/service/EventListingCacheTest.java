@@ -0,0 +1,96 @@
+package org.volumteerhub.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.volumteerhub.dto.EventDto;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventListingCacheTest {
+
+    private static final Pageable FIRST = PageRequest.of(0, 10);
+    private static final Pageable SECOND = PageRequest.of(1, 10);
+
+    private final EventListingCache cache = new EventListingCache(new SimpleMeterRegistry(), 1 << 20, 60);
+
+    private final UUID first = UUID.randomUUID();
+    private final UUID second = UUID.randomUUID();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void identicalListingsShareOneLoad() {
+        cache.get(null, null, FIRST, loader(first));
+        cache.get(null, null, FIRST, loader(first));
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void purgingAnEventDropsOnlyThePagesShowingIt() {
+        cache.get(null, null, FIRST, loader(first));
+        cache.get(null, null, SECOND, loader(second));
+
+        cache.purgeEvent(first);
+        cache.get(null, null, FIRST, loader(first));
+        cache.get(null, null, SECOND, loader(second));
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void contentChangeAlsoDropsSearchedAndSortedPages() {
+        cache.get(null, null, FIRST, loader(first));
+        cache.get(null, "beach", FIRST, loader(second));
+        cache.get(null, null, PageRequest.of(0, 10, Sort.by("name")), loader(second));
+
+        cache.purgeEventContent(first);
+        cache.get(null, null, FIRST, loader(first));
+        cache.get(null, "beach", FIRST, loader(second));
+        cache.get(null, null, PageRequest.of(0, 10, Sort.by("name")), loader(second));
+
+        assertThat(loads).hasValue(6);
+    }
+
+    @Test
+    void pageLoadedDuringAPurgeIsNotKept() {
+        cache.get(null, null, FIRST, () -> {
+            cache.purgeEvent(second);
+            return loader(first).get();
+        });
+        cache.get(null, null, FIRST, loader(first));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void purgeAllDropsEveryPage() {
+        cache.get(null, null, FIRST, loader(first));
+        cache.get(null, null, SECOND, loader(second));
+
+        cache.purgeAll();
+        cache.get(null, null, FIRST, loader(first));
+        cache.get(null, null, SECOND, loader(second));
+
+        assertThat(loads).hasValue(4);
+    }
+
+    private Supplier<Page<EventDto>> loader(UUID eventId) {
+        return () -> {
+            loads.incrementAndGet();
+            EventDto dto = new EventDto();
+            dto.setId(eventId);
+            dto.setName("Event " + eventId);
+            return new PageImpl<>(List.of(dto));
+        };
+    }
+}
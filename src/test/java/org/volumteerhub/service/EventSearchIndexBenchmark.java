@@ -0,0 +1,104 @@
+package org.volumteerhub.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.volumteerhub.common.enumeration.EventStatus;
+import org.volumteerhub.model.Event;
+import org.volumteerhub.repository.EventRepository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Build time of the in-memory search index and query latency for common and rare searches,
+ * over synthetic approved events with Vietnamese names and locations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventSearchIndexBenchmark {
+
+    private static final String[] ACTIVITIES = {
+            "Dọn rác bãi biển", "Trồng cây xanh", "Hiến máu nhân đạo", "Dạy học miễn phí",
+            "Nấu cơm từ thiện", "Sửa nhà tình thương", "Quyên góp sách vở", "Chăm sóc người già"
+    };
+    private static final String[] PLACES = {
+            "Hà Nội", "Đà Nẵng", "Huế", "Hội An", "Cần Thơ", "Nha Trang", "Đà Lạt", "Vũng Tàu"
+    };
+
+    @Param({"10000", "100000"})
+    private int events;
+
+    private EventRepository eventRepository;
+    private EventSearchIndex index;
+
+    @Setup
+    public void buildIndex() {
+        Random random = new Random(42);
+        Instant now = Instant.now();
+        List<Event> approved = new ArrayList<>(events);
+        for (int i = 0; i < events; i++) {
+            approved.add(Event.builder()
+                    .id(UUID.randomUUID())
+                    .name(ACTIVITIES[random.nextInt(ACTIVITIES.length)] + " " + i)
+                    .location(PLACES[random.nextInt(PLACES.length)])
+                    .status(EventStatus.APPROVED)
+                    .createdAt(now.minusSeconds(i))
+                    .build());
+        }
+
+        eventRepository = mock(EventRepository.class);
+        when(eventRepository.findByStatus(EventStatus.APPROVED)).thenReturn(approved);
+
+        index = new EventSearchIndex(eventRepository);
+        index.build();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public EventSearchIndex build() {
+        EventSearchIndex fresh = new EventSearchIndex(eventRepository);
+        fresh.build();
+        return fresh;
+    }
+
+    // Matches about one event in eight
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<UUID> commonSearch() {
+        return index.search("don rac");
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<UUID> rareSearch() {
+        return index.search("trong cay 4242");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EventSearchIndexBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
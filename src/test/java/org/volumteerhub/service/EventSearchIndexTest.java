@@ -0,0 +1,106 @@
+package org.volumteerhub.service;
+
+import org.junit.jupiter.api.Test;
+import org.volumteerhub.common.enumeration.EventStatus;
+import org.volumteerhub.model.Event;
+import org.volumteerhub.repository.EventRepository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventSearchIndexTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final EventSearchIndex index = new EventSearchIndex(eventRepository);
+
+    @Test
+    void buildIndexesApprovedEvents() {
+        Event beach = approved("Dọn rác bãi biển", NOW);
+        when(eventRepository.findByStatus(EventStatus.APPROVED)).thenReturn(List.of(beach));
+
+        assertThat(index.isReady()).isFalse();
+        index.build();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.search("don rac")).containsExactly(beach.getId());
+    }
+
+    @Test
+    void everyTermMustMatch() {
+        Event beach = approved("Beach cleanup", NOW);
+        Event park = approved("Park cleanup", NOW);
+        index.reindex(beach);
+        index.reindex(park);
+
+        assertThat(index.search("cleanup")).containsExactlyInAnyOrder(beach.getId(), park.getId());
+        assertThat(index.search("beach cleanup")).containsExactly(beach.getId());
+        assertThat(index.search("forest cleanup")).isEmpty();
+        assertThat(index.search("  ")).isEmpty();
+    }
+
+    @Test
+    void wholeWordsRankAbovePrefixesAndSubstrings() {
+        Event substring = approved("Seashore walk", NOW);
+        Event prefix = approved("Shoreline walk", NOW);
+        Event word = approved("Shore walk", NOW);
+        index.reindex(substring);
+        index.reindex(prefix);
+        index.reindex(word);
+
+        assertThat(index.search("shore")).containsExactly(word.getId(), prefix.getId(), substring.getId());
+    }
+
+    @Test
+    void equalScoresAreNewestFirst() {
+        Event older = approved("Tree planting", NOW.minusSeconds(60));
+        Event newer = approved("Tree planting", NOW);
+        index.reindex(older);
+        index.reindex(newer);
+
+        assertThat(index.search("tree")).containsExactly(newer.getId(), older.getId());
+    }
+
+    @Test
+    void wordsShorterThanATrigramStillMatch() {
+        Event event = approved("Run 5k for charity", NOW);
+        index.reindex(event);
+
+        assertThat(index.search("5k")).containsExactly(event.getId());
+    }
+
+    @Test
+    void reindexAndEvictKeepTheIndexCurrent() {
+        Event event = approved("Food bank", NOW);
+        index.reindex(event);
+
+        event.setName("Book drive");
+        index.reindex(event);
+        assertThat(index.search("food")).isEmpty();
+        assertThat(index.search("book")).containsExactly(event.getId());
+
+        event.setStatus(EventStatus.REJECTED);
+        index.reindex(event);
+        assertThat(index.search("book")).isEmpty();
+
+        event.setStatus(EventStatus.APPROVED);
+        index.reindex(event);
+        index.evict(event.getId());
+        assertThat(index.search("book")).isEmpty();
+    }
+
+    private static Event approved(String name, Instant createdAt) {
+        return Event.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .status(EventStatus.APPROVED)
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,142 @@
+package org.volumteerhub.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.volumteerhub.common.enumeration.EventStatus;
+import org.volumteerhub.common.enumeration.UserRole;
+import org.volumteerhub.common.security.UserPrincipal;
+import org.volumteerhub.dto.EventDto;
+import org.volumteerhub.model.Event;
+import org.volumteerhub.model.User;
+import org.volumteerhub.repository.EventRepository;
+import org.volumteerhub.repository.UserRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Event details are read from the cache, and writes replace the cached copy once they commit.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class EventServiceCacheTests {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User owner;
+    private Event event;
+
+    @BeforeEach
+    void createEvent() {
+        owner = userRepository.save(User.builder()
+                .firstname("Cache")
+                .lastname("Owner")
+                .username("cache-" + UUID.randomUUID())
+                .passwordHash("unused")
+                .role(UserRole.USER)
+                .isActive(true)
+                .build());
+
+        Instant start = Instant.now().plus(Duration.ofDays(7));
+        event = eventRepository.save(Event.builder()
+                .owner(owner)
+                .name("Original")
+                .dateDeadline(start.minus(Duration.ofDays(1)))
+                .startDate(start)
+                .endDate(start.plus(Duration.ofHours(4)))
+                .status(EventStatus.DRAFT)
+                .build());
+
+        UserPrincipal principal = UserPrincipal.from(owner);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        cache().evict(event.getId());
+        eventRepository.deleteById(event.getId());
+        userRepository.deleteById(owner.getId());
+    }
+
+    @Test
+    void repeatedReadsAreServedFromTheCache() {
+        eventService.get(event.getId());
+        Statistics statistics = statistics();
+
+        EventDto dto = eventService.get(event.getId());
+
+        assertThat(dto.getName()).isEqualTo("Original");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void committedUpdateReplacesTheCachedCopy() {
+        eventService.get(event.getId());
+
+        eventService.update(event.getId(), rename("Renamed"));
+        Statistics statistics = statistics();
+
+        assertThat(eventService.get(event.getId()).getName()).isEqualTo("Renamed");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void rolledBackUpdateLeavesTheCachedCopy() {
+        eventService.get(event.getId());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventService.update(event.getId(), rename("Rolled back"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(eventService.get(event.getId()).getName()).isEqualTo("Original");
+    }
+
+    private static EventDto rename(String name) {
+        EventDto dto = new EventDto();
+        dto.setName(name);
+        return dto;
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(EventService.EVENTS_CACHE);
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -0,0 +1,129 @@
+package org.volumteerhub.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.volumteerhub.common.enumeration.EventStatus;
+import org.volumteerhub.common.enumeration.UserRole;
+import org.volumteerhub.common.security.UserPrincipal;
+import org.volumteerhub.dto.EventDto;
+import org.volumteerhub.model.Event;
+import org.volumteerhub.model.User;
+import org.volumteerhub.repository.EventRepository;
+import org.volumteerhub.repository.UserRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Event reads fetch the owner with the event, so mapping to DTOs adds no per-row queries.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class EventServiceQueryCountTests {
+
+    private static final int EVENTS = 5;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User owner;
+    private final List<Event> events = new ArrayList<>();
+
+    @BeforeEach
+    void createEvents() {
+        owner = userRepository.save(User.builder()
+                .firstname("Query")
+                .lastname("Count")
+                .username("query-count-" + UUID.randomUUID())
+                .passwordHash("unused")
+                .role(UserRole.USER)
+                .isActive(true)
+                .build());
+
+        Instant start = Instant.now().plus(Duration.ofDays(7));
+        for (int i = 0; i < EVENTS; i++) {
+            events.add(eventRepository.save(Event.builder()
+                    .owner(owner)
+                    .name("Query count " + i)
+                    .dateDeadline(start.minus(Duration.ofDays(1)))
+                    .startDate(start)
+                    .endDate(start.plus(Duration.ofHours(4)))
+                    .status(EventStatus.APPROVED)
+                    .build()));
+        }
+
+        UserPrincipal principal = UserPrincipal.from(owner);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        eventRepository.deleteAll(events);
+        userRepository.deleteById(owner.getId());
+    }
+
+    @Test
+    void listingAPageIssuesOneStatement() {
+        Statistics statistics = statistics();
+
+        Page<EventDto> page = inTransaction(() -> eventService.list(
+                EventStatus.APPROVED, owner.getId(), null, PageRequest.of(0, 10, Sort.by("createdAt"))));
+
+        assertThat(page.getContent()).hasSize(EVENTS)
+                .allSatisfy(dto -> assertThat(dto.getOwnerName()).isEqualTo("Query Count"));
+        // A short first page needs no count query
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void loadingAnEventIssuesOneStatement() {
+        Statistics statistics = statistics();
+
+        EventDto dto = inTransaction(() -> eventService.get(events.get(0).getId()));
+
+        assertThat(dto.getOwnerName()).isEqualTo("Query Count");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+}
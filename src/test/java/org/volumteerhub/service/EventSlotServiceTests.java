@@ -0,0 +1,209 @@
+package org.volumteerhub.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.volumteerhub.common.enumeration.EventStatus;
+import org.volumteerhub.common.enumeration.RegistrationStatus;
+import org.volumteerhub.common.enumeration.UserRole;
+import org.volumteerhub.common.exception.BadRequestException;
+import org.volumteerhub.common.security.UserPrincipal;
+import org.volumteerhub.dto.EventSlotDto;
+import org.volumteerhub.model.Event;
+import org.volumteerhub.model.Registration;
+import org.volumteerhub.model.User;
+import org.volumteerhub.repository.EventRepository;
+import org.volumteerhub.repository.EventSlotRepository;
+import org.volumteerhub.repository.RegistrationRepository;
+import org.volumteerhub.repository.UserRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class EventSlotServiceTests {
+
+    @Autowired
+    private EventSlotService eventSlotService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventSlotRepository eventSlotRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<User> users = new ArrayList<>();
+    private User owner;
+    private Event event;
+    private Instant start;
+
+    @BeforeEach
+    void createEvent() {
+        owner = user();
+        start = Instant.now().plus(Duration.ofDays(7));
+        event = eventRepository.save(Event.builder()
+                .owner(owner)
+                .name("Slots")
+                .dateDeadline(start.minus(Duration.ofDays(1)))
+                .startDate(start)
+                .endDate(start.plus(Duration.ofHours(8)))
+                .status(EventStatus.APPROVED)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        registrationRepository.deleteAllInBatch(registrationRepository.findByEventId(event.getId()));
+        eventRepository.deleteById(event.getId());
+        userRepository.deleteAllInBatch(users);
+    }
+
+    @Test
+    void createRejectsMissingFieldsAndEmptySlots() {
+        signIn(owner);
+
+        assertThatThrownBy(() -> eventSlotService.create(event.getId(), slot(null, 0, 2, 1)))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> eventSlotService.create(event.getId(), slot("Morning", 0, 2, null)))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> eventSlotService.create(event.getId(), slot("Morning", 0, 2, 0)))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> eventSlotService.create(event.getId(), slot("Late", 6, 10, 1)))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void slotSeatsRunOutAtCapacity() {
+        UUID slotId = createSlot("Morning", 0, 2, 1);
+        User first = registeredVolunteer();
+        User second = registeredVolunteer();
+
+        signIn(first);
+        assertThat(eventSlotService.join(event.getId(), slotId).getFreeSeats()).isZero();
+
+        signIn(second);
+        assertThatThrownBy(() -> eventSlotService.join(event.getId(), slotId))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Slot is full.");
+        assertThat(seatsTaken(slotId)).isEqualTo(1);
+    }
+
+    @Test
+    void onlyRegisteredVolunteersCanJoin() {
+        UUID slotId = createSlot("Morning", 0, 2, 5);
+
+        signIn(user());
+        assertThatThrownBy(() -> eventSlotService.join(event.getId(), slotId))
+                .isInstanceOf(BadRequestException.class);
+        assertThat(seatsTaken(slotId)).isZero();
+    }
+
+    @Test
+    void overlappingSlotsCannotBothBeJoined() {
+        UUID morning = createSlot("Morning", 0, 3, 5);
+        UUID midday = createSlot("Midday", 2, 5, 5);
+        User volunteer = registeredVolunteer();
+
+        signIn(volunteer);
+        eventSlotService.join(event.getId(), morning);
+        assertThatThrownBy(() -> eventSlotService.join(event.getId(), midday))
+                .isInstanceOf(BadRequestException.class);
+        assertThat(seatsTaken(midday)).isZero();
+    }
+
+    @Test
+    void concurrentDoubleJoinTakesOneSeat() throws Exception {
+        UUID slotId = createSlot("Morning", 0, 2, 5);
+        User volunteer = registeredVolunteer();
+
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<EventSlotDto>> joins = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 2; i++) {
+                joins.add(executor.submit(() -> {
+                    signIn(volunteer);
+                    go.await();
+                    return eventSlotService.join(event.getId(), slotId);
+                }));
+            }
+            go.countDown();
+
+            for (Future<EventSlotDto> join : joins) {
+                assertThat(join.get(30, TimeUnit.SECONDS).isJoined()).isTrue();
+            }
+        }
+
+        assertThat(seatsTaken(slotId)).isEqualTo(1);
+    }
+
+    private UUID createSlot(String name, int fromHour, int toHour, Integer capacity) {
+        signIn(owner);
+        UUID id = eventSlotService.create(event.getId(), slot(name, fromHour, toHour, capacity)).getId();
+        SecurityContextHolder.clearContext();
+        return id;
+    }
+
+    private EventSlotDto slot(String name, int fromHour, int toHour, Integer capacity) {
+        EventSlotDto dto = new EventSlotDto();
+        dto.setName(name);
+        dto.setStartTime(start.plus(Duration.ofHours(fromHour)));
+        dto.setEndTime(start.plus(Duration.ofHours(toHour)));
+        dto.setCapacity(capacity);
+        return dto;
+    }
+
+    private int seatsTaken(UUID slotId) {
+        return eventSlotRepository.findById(slotId).orElseThrow().getSeatsTaken();
+    }
+
+    private User registeredVolunteer() {
+        User volunteer = user();
+        registrationRepository.save(Registration.builder()
+                .user(volunteer)
+                .event(event)
+                .status(RegistrationStatus.PENDING)
+                .build());
+        return volunteer;
+    }
+
+    private static void signIn(User user) {
+        UserPrincipal principal = UserPrincipal.from(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private User user() {
+        User user = userRepository.save(User.builder()
+                .firstname("Slot")
+                .lastname("Test")
+                .username("slot-" + UUID.randomUUID())
+                .passwordHash("unused")
+                .role(UserRole.USER)
+                .isActive(true)
+                .build());
+        users.add(user);
+        return user;
+    }
+}
@@ -0,0 +1,133 @@
+package org.volumteerhub.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.volumteerhub.common.enumeration.EventStatus;
+import org.volumteerhub.dto.EventSuggestionDto;
+import org.volumteerhub.model.Event;
+import org.volumteerhub.repository.EventRegistrationCountProjection;
+import org.volumteerhub.repository.EventRepository;
+import org.volumteerhub.repository.RegistrationRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Keystroke latency distribution (p99 is the target) of suggest() over 50k approved events,
+ * alone and while seat changes keep reweighing entries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventSuggestionIndexBenchmark {
+
+    private static final int EVENTS = 50_000;
+
+    private static final String[] ACTIVITIES = {
+            "Dọn rác bãi biển", "Trồng cây xanh", "Hiến máu nhân đạo", "Dạy học miễn phí",
+            "Nấu cơm từ thiện", "Sửa nhà tình thương", "Quyên góp sách vở", "Chăm sóc người già"
+    };
+    private static final String[] PLACES = {
+            "Hà Nội", "Đà Nẵng", "Huế", "Hội An", "Cần Thơ", "Nha Trang", "Đà Lạt", "Vũng Tàu"
+    };
+    // What volunteers type: short prefixes of names and places, folded or not
+    private static final String[] PREFIXES = {
+            "d", "do", "don r", "trồ", "hien m", "day", "nau com", "sua nha", "quy", "cham",
+            "ha", "đà n", "hue", "hoi", "can", "nha t", "da l", "vung"
+    };
+
+    private EventSuggestionIndex index;
+    private final List<UUID> ids = new ArrayList<>(EVENTS);
+
+    @Setup
+    public void buildIndex() {
+        Random random = new Random(42);
+        List<Event> approved = new ArrayList<>(EVENTS);
+        List<EventRegistrationCountProjection> counts = new ArrayList<>(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            UUID id = UUID.randomUUID();
+            long count = random.nextInt(500);
+            ids.add(id);
+            approved.add(Event.builder()
+                    .id(id)
+                    .name(ACTIVITIES[random.nextInt(ACTIVITIES.length)] + " " + i)
+                    .location(PLACES[random.nextInt(PLACES.length)] + " " + random.nextInt(200))
+                    .status(EventStatus.APPROVED)
+                    .build());
+            counts.add(new EventRegistrationCountProjection() {
+                @Override
+                public UUID getEventId() {
+                    return id;
+                }
+
+                @Override
+                public Long getCount() {
+                    return count;
+                }
+            });
+        }
+
+        EventRepository eventRepository = mock(EventRepository.class);
+        RegistrationRepository registrationRepository = mock(RegistrationRepository.class);
+        when(eventRepository.findByStatus(EventStatus.APPROVED)).thenReturn(approved);
+        when(registrationRepository.countByEventStatus(eq(EventStatus.APPROVED), any())).thenReturn(counts);
+
+        index = new EventSuggestionIndex(eventRepository, registrationRepository);
+        index.build();
+    }
+
+    @Benchmark
+    public List<EventSuggestionDto> suggest() {
+        return index.suggest(prefix(), 5);
+    }
+
+    @Benchmark
+    @Group("withSeatChanges")
+    @GroupThreads(7)
+    public List<EventSuggestionDto> suggestDuringSeatChanges() {
+        return index.suggest(prefix(), 5);
+    }
+
+    @Benchmark
+    @Group("withSeatChanges")
+    @GroupThreads(1)
+    public void seatChange() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        index.adjustRegistrations(ids.get(random.nextInt(EVENTS)), random.nextBoolean() ? 1 : -1);
+    }
+
+    private static String prefix() {
+        return PREFIXES[ThreadLocalRandom.current().nextInt(PREFIXES.length)];
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EventSuggestionIndexBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,70 @@
+package org.volumteerhub.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.volumteerhub.common.exception.BadRequestException;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyStoreTest {
+
+    private final IdempotencyStore store = new IdempotencyStore(100, 1);
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void beginTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void endTransaction() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void responseIsReplayedOnlyAfterCommit() {
+        store.storeAfterCommit(userId, "key", "join:a", "registered");
+        assertThat(store.find(userId, "key", "join:a", String.class)).isNull();
+
+        commit();
+        assertThat(store.find(userId, "key", "join:a", String.class)).isEqualTo("registered");
+    }
+
+    @Test
+    void rolledBackResponseIsNotReplayed() {
+        store.storeAfterCommit(userId, "key", "join:a", "registered");
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertThat(store.find(userId, "key", "join:a", String.class)).isNull();
+    }
+
+    @Test
+    void keysAreScopedPerUser() {
+        store.storeAfterCommit(userId, "key", "join:a", "registered");
+        commit();
+
+        assertThat(store.find(UUID.randomUUID(), "key", "join:a", String.class)).isNull();
+    }
+
+    @Test
+    void keyReusedForAnotherRequestIsRejected() {
+        store.storeAfterCommit(userId, "key", "join:a", "registered");
+        commit();
+
+        assertThatThrownBy(() -> store.find(userId, "key", "join:b", String.class))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private static void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    }
+}
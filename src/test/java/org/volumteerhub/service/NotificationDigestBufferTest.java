@@ -0,0 +1,105 @@
+package org.volumteerhub.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.volumteerhub.config.VapidConfig;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class NotificationDigestBufferTest {
+
+    private static final String TYPE = "new-member";
+    private static final String URL = "/event/1";
+
+    private final NotificationDispatcherService dispatcher = mock(NotificationDispatcherService.class);
+    private final VapidConfig vapidConfig = mock(VapidConfig.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final UUID owner = UUID.randomUUID();
+
+    @BeforeEach
+    void enablePush() {
+        when(vapidConfig.isEnabled()).thenReturn(true);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void singleNotificationIsSentAsIs() {
+        NotificationDigestBuffer buffer = buffer(0);
+
+        add(buffer, owner);
+        buffer.flushDue();
+
+        verify(dispatcher).sendToUserIds(List.of(owner), "New member", "Someone joined", URL);
+    }
+
+    @Test
+    void notificationsWithinTheWindowAreMergedIntoOneDigest() {
+        NotificationDigestBuffer buffer = buffer(60);
+
+        add(buffer, owner);
+        add(buffer, owner);
+        add(buffer, owner);
+        buffer.flushDue();
+        verify(dispatcher, never()).sendToUserIds(any(), anyString(), anyString(), any());
+
+        buffer.flushAll();
+        verify(dispatcher).sendToUserIds(List.of(owner), "New member", "3 people joined", URL);
+        verifyNoMoreInteractions(dispatcher);
+        assertThat(meterRegistry.counter("notification.digest.suppressed").count()).isEqualTo(2);
+    }
+
+    @Test
+    void recipientsGetSeparateDigests() {
+        NotificationDigestBuffer buffer = buffer(60);
+        UUID other = UUID.randomUUID();
+
+        add(buffer, owner);
+        add(buffer, other);
+        buffer.flushAll();
+
+        verify(dispatcher).sendToUserIds(List.of(owner), "New member", "Someone joined", URL);
+        verify(dispatcher).sendToUserIds(List.of(other), "New member", "Someone joined", URL);
+    }
+
+    @Test
+    void rolledBackNotificationIsNotBuffered() {
+        NotificationDigestBuffer buffer = buffer(0);
+        TransactionSynchronizationManager.initSynchronization();
+
+        add(buffer, owner);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        buffer.flushAll();
+
+        verifyNoMoreInteractions(dispatcher);
+    }
+
+    private NotificationDigestBuffer buffer(long windowSeconds) {
+        return new NotificationDigestBuffer(dispatcher, vapidConfig, meterRegistry, windowSeconds);
+    }
+
+    private static void add(NotificationDigestBuffer buffer, UUID recipientId) {
+        buffer.addAfterCommit(recipientId, TYPE, "New member", "Someone joined", "%d people joined", URL);
+    }
+}
@@ -0,0 +1,147 @@
+package org.volumteerhub.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.volumteerhub.model.NotificationOutbox;
+import org.volumteerhub.model.PushSubscription;
+import org.volumteerhub.repository.NotificationOutboxRepository;
+import org.volumteerhub.service.PushFanoutService.Outcome;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationOutboxDispatcherTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final NotificationOutboxRepository outboxRepository = mock(NotificationOutboxRepository.class);
+    private final WebPushService webPushService = mock(WebPushService.class);
+    private final PushFanoutService pushFanoutService = mock(PushFanoutService.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+    // Batches of 10, 300 s lease, backoff 5 s doubling up to an hour
+    private final NotificationOutboxDispatcher dispatcher = new NotificationOutboxDispatcher(
+            outboxRepository, webPushService, pushFanoutService, transactionTemplate, 10, MAX_ATTEMPTS, 300, 5, 3600);
+
+    private final UUID recipientId = UUID.randomUUID();
+    private final PushSubscription device = PushSubscription.builder()
+            .id(UUID.randomUUID())
+            .endpoint("https://push.example/device")
+            .build();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        when(webPushService.isEnabled()).thenReturn(true);
+        when(transactionTemplate.execute(any())).thenAnswer(
+                invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        when(webPushService.findSubscriptions(any())).thenReturn(Map.of(recipientId, List.of(device)));
+        when(webPushService.buildPayload(anyString(), anyString(), any())).thenReturn("{}");
+        when(webPushService.prepareRequest(any(), anyString()))
+                .thenReturn(HttpRequest.newBuilder(URI.create(device.getEndpoint())).build());
+    }
+
+    @Test
+    void claimingPushesTheNextAttemptOutByTheLease() {
+        NotificationOutbox message = queued(0);
+        Instant before = Instant.now();
+        when(pushFanoutService.sendAll(any())).thenAnswer(invocation -> {
+            assertThat(message.getAttempts()).isEqualTo(1);
+            assertThat(message.getNextAttemptAt()).isAfterOrEqualTo(before.plus(Duration.ofSeconds(300)));
+            return List.of(Outcome.DELIVERED);
+        });
+
+        dispatcher.dispatch();
+
+        verify(pushFanoutService).sendAll(argThat(requests -> requests.size() == 1));
+    }
+
+    @Test
+    void deliveredMessagesAreDeleted() {
+        NotificationOutbox message = queued(0);
+        when(pushFanoutService.sendAll(any())).thenReturn(List.of(Outcome.DELIVERED));
+
+        dispatcher.dispatch();
+
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(message.getId()));
+        verify(outboxRepository, never()).reschedule(any(), any(), any());
+    }
+
+    @Test
+    void retriedMessagesBackOffExponentially() {
+        NotificationOutbox message = queued(1);
+        when(pushFanoutService.sendAll(any())).thenReturn(List.of(Outcome.RETRY));
+        Instant before = Instant.now();
+
+        dispatcher.dispatch();
+
+        // Second attempt: 5 s * 2
+        verify(outboxRepository).reschedule(eq(message.getId()),
+                argThat(next -> !next.isBefore(before.plusSeconds(10)) && next.isBefore(before.plusSeconds(20))),
+                anyString());
+        verify(outboxRepository).deleteAllByIdInBatch(List.of());
+    }
+
+    @Test
+    void messagesAreDroppedAfterMaxAttempts() {
+        NotificationOutbox message = queued(MAX_ATTEMPTS - 1);
+        when(pushFanoutService.sendAll(any())).thenReturn(List.of(Outcome.RETRY));
+
+        dispatcher.dispatch();
+
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(message.getId()));
+        verify(outboxRepository, never()).reschedule(any(), any(), any());
+    }
+
+    @Test
+    void goneDevicesAreRemoved() {
+        NotificationOutbox message = queued(0);
+        when(pushFanoutService.sendAll(any())).thenReturn(List.of(Outcome.GONE));
+
+        dispatcher.dispatch();
+
+        verify(webPushService).removeSubscriptions(Set.of(device.getId()));
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(message.getId()));
+    }
+
+    @Test
+    void nothingIsClaimedWhilePushIsDisabled() {
+        when(webPushService.isEnabled()).thenReturn(false);
+
+        dispatcher.dispatch();
+
+        verify(outboxRepository, never()).lockDue(any(), anyInt());
+    }
+
+    private NotificationOutbox queued(int attempts) {
+        NotificationOutbox message = NotificationOutbox.builder()
+                .id(UUID.randomUUID())
+                .recipientId(recipientId)
+                .title("Title")
+                .body("Body")
+                .attempts(attempts)
+                .nextAttemptAt(Instant.now())
+                .build();
+        when(outboxRepository.lockDue(any(), anyInt())).thenReturn(List.of(message));
+        return message;
+    }
+}
@@ -0,0 +1,96 @@
+package org.volumteerhub.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.volumteerhub.common.exception.ServiceUnavailableException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingServiceTest {
+
+    private final CountDownLatch hashing = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    // Cheap cost factor; hashes of "slow" block until released
+    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4) {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            if ("slow".contentEquals(rawPassword)) {
+                hashing.countDown();
+                await(release);
+            }
+            return super.encode(rawPassword);
+        }
+    };
+
+    private PasswordHashingService service;
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        service.shutdown();
+    }
+
+    @Test
+    void hashesAndMatches() {
+        service = new PasswordHashingService(encoder, 1, 1, 2, 5_000);
+
+        String hash = service.encode("secret");
+
+        assertThat(service.matches("secret", hash)).isTrue();
+        assertThat(service.matches("other", hash)).isFalse();
+        assertThat(service.needsUpgrade(hash)).isFalse();
+    }
+
+    @Test
+    void callerStopsWaitingAfterMaxWait() {
+        service = new PasswordHashingService(encoder, 1, 1, 2, 50);
+
+        assertThatThrownBy(() -> service.encode("slow"))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    @Test
+    void fullQueueIsRejectedWithoutWaiting() throws Exception {
+        service = new PasswordHashingService(encoder, 1, 1, 2, 5_000);
+        Thread running = occupyPool();
+        Thread queued = new Thread(() -> service.encode("queued"));
+        queued.start();
+        // Blocked in future.get(), so its task sits in the queue
+        while (queued.getState() != Thread.State.TIMED_WAITING) {
+            assertThat(queued.isAlive()).isTrue();
+            Thread.sleep(1);
+        }
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> service.encode("rejected"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(System.nanoTime() - started).isLessThan(TimeUnit.SECONDS.toNanos(1));
+
+        release.countDown();
+        running.join(5_000);
+        queued.join(5_000);
+    }
+
+    // Keeps the single hashing thread busy until release
+    private Thread occupyPool() {
+        Thread thread = new Thread(() -> service.encode("slow"));
+        thread.start();
+        await(hashing);
+        return thread;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package org.volumteerhub.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.volumteerhub.common.enumeration.EventStatus;
+import org.volumteerhub.common.enumeration.ReactionType;
+import org.volumteerhub.common.enumeration.UserRole;
+import org.volumteerhub.dto.PostDto;
+import org.volumteerhub.model.Event;
+import org.volumteerhub.model.Post;
+import org.volumteerhub.model.PostMedia;
+import org.volumteerhub.model.PostReaction;
+import org.volumteerhub.model.User;
+import org.volumteerhub.repository.EventRepository;
+import org.volumteerhub.repository.PostMediaRepository;
+import org.volumteerhub.repository.PostRepository;
+import org.volumteerhub.repository.ReactionRepository;
+import org.volumteerhub.repository.UserRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A feed page loads authors with the posts and media and reaction counts for the whole page,
+ * so its query count does not grow with the number of posts.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PostServiceQueryCountTests {
+
+    private static final int POSTS = 5;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostMediaRepository postMediaRepository;
+
+    @Autowired
+    private ReactionRepository reactionRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<User> users = new ArrayList<>();
+    private final List<Post> posts = new ArrayList<>();
+    private Event event;
+
+    @BeforeEach
+    void createFeed() {
+        User author = user();
+        User reader = user();
+
+        Instant start = Instant.now().plus(Duration.ofDays(7));
+        event = eventRepository.save(Event.builder()
+                .owner(author)
+                .name("Feed")
+                .dateDeadline(start.minus(Duration.ofDays(1)))
+                .startDate(start)
+                .endDate(start.plus(Duration.ofHours(4)))
+                .status(EventStatus.APPROVED)
+                .build());
+
+        for (int i = 0; i < POSTS; i++) {
+            Post post = postRepository.save(Post.builder()
+                    .user(author)
+                    .event(event)
+                    .content("Post " + i)
+                    .build());
+            posts.add(post);
+            for (int m = 0; m < 2; m++) {
+                postMediaRepository.save(PostMedia.builder()
+                        .post(post)
+                        .resourceId(UUID.randomUUID())
+                        .path("/media/" + i + "-" + m)
+                        .build());
+            }
+            reactionRepository.save(PostReaction.builder().post(post).user(author).reactionType(ReactionType.LIKE).build());
+            reactionRepository.save(PostReaction.builder().post(post).user(reader).reactionType(ReactionType.LOVE).build());
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        postRepository.deleteAllById(posts.stream().map(Post::getId).toList());
+        eventRepository.deleteById(event.getId());
+        userRepository.deleteAllInBatch(users);
+    }
+
+    @Test
+    void pagedFeedIssuesAFixedNumberOfStatements() {
+        Statistics statistics = statistics();
+
+        List<PostDto> feed = postService.listByEvent(
+                event.getId(), PageRequest.of(0, 10, Sort.by("createdAt"))).getContent();
+
+        assertFeed(feed);
+        // Event check, page, media, reaction counts
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    void cursorFeedIssuesAFixedNumberOfStatements() {
+        Statistics statistics = statistics();
+
+        List<PostDto> feed = postService.listByEventCursor(event.getId(), null, 10).getContent();
+
+        assertFeed(feed);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    private void assertFeed(List<PostDto> feed) {
+        assertThat(feed).hasSize(POSTS).allSatisfy(dto -> {
+            assertThat(dto.getAuthorName()).isEqualTo("Feed Author");
+            assertThat(dto.getMediaUrls()).hasSize(2);
+            assertThat(dto.getReactionCounts())
+                    .isEqualTo(Map.of(ReactionType.LIKE, 1L, ReactionType.LOVE, 1L));
+        });
+    }
+
+    private User user() {
+        User user = userRepository.save(User.builder()
+                .firstname("Feed")
+                .lastname("Author")
+                .username("feed-" + UUID.randomUUID())
+                .passwordHash("unused")
+                .role(UserRole.USER)
+                .isActive(true)
+                .build());
+        users.add(user);
+        return user;
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
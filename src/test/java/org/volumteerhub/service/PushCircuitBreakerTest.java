@@ -0,0 +1,69 @@
+package org.volumteerhub.service;
+
+import org.junit.jupiter.api.Test;
+import org.volumteerhub.service.PushCircuitBreaker.Decision;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PushCircuitBreakerTest {
+
+    private static final URI ENDPOINT = URI.create("https://fcm.googleapis.com/fcm/send/abc");
+    private static final URI OTHER = URI.create("https://fcm.googleapis.com/fcm/send/def");
+
+    // Endpoint opens after 3 failures, origin after 5, prune after 4 strikes
+    private final PushCircuitBreaker breaker = new PushCircuitBreaker(3, 5, 4, 300, 1000);
+
+    @Test
+    void failuresOpenTheEndpointCircuit() {
+        breaker.recordFailure(ENDPOINT);
+        breaker.recordFailure(ENDPOINT);
+        assertThat(breaker.check(ENDPOINT)).isEqualTo(Decision.SEND);
+
+        breaker.recordFailure(ENDPOINT);
+        assertThat(breaker.check(ENDPOINT)).isEqualTo(Decision.SKIP);
+        assertThat(breaker.check(OTHER)).isEqualTo(Decision.SEND);
+    }
+
+    @Test
+    void repeatedFailuresPruneTheEndpoint() {
+        assertThat(breaker.recordFailure(ENDPOINT)).isFalse();
+        assertThat(breaker.recordFailure(ENDPOINT)).isFalse();
+        assertThat(breaker.recordFailure(ENDPOINT)).isFalse();
+        assertThat(breaker.recordFailure(ENDPOINT)).isTrue();
+    }
+
+    @Test
+    void throttlingOpensTheCircuitWithoutPruning() {
+        for (int i = 0; i < 10; i++) {
+            breaker.recordThrottled(ENDPOINT);
+        }
+        assertThat(breaker.check(ENDPOINT)).isEqualTo(Decision.SKIP);
+
+        // Only the first real failure counts toward pruning
+        assertThat(breaker.recordFailure(ENDPOINT)).isFalse();
+    }
+
+    @Test
+    void originCircuitCoversEveryEndpoint() {
+        for (int i = 0; i < 5; i++) {
+            breaker.recordThrottled(URI.create("https://fcm.googleapis.com/fcm/send/" + i));
+        }
+
+        assertThat(breaker.check(OTHER)).isEqualTo(Decision.SKIP);
+        assertThat(breaker.check(URI.create("https://updates.push.services.mozilla.com/wpush/v2/x")))
+                .isEqualTo(Decision.SEND);
+    }
+
+    @Test
+    void successClosesTheCircuit() {
+        breaker.recordFailure(ENDPOINT);
+        breaker.recordFailure(ENDPOINT);
+        breaker.recordFailure(ENDPOINT);
+
+        breaker.recordSuccess(ENDPOINT);
+
+        assertThat(breaker.check(ENDPOINT)).isEqualTo(Decision.SEND);
+    }
+}
@@ -0,0 +1,129 @@
+package org.volumteerhub.service;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.volumteerhub.service.PushFanoutService.Outcome;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PushFanoutServiceTest {
+
+    private static final URI ENDPOINT = URI.create("https://fcm.googleapis.com/fcm/send/abc");
+
+    private static final int PER_ORIGIN = 5;
+    private static final int REQUESTS = 20;
+    private static final Duration RESPONSE_DELAY = Duration.ofMillis(200);
+
+    // Mock push service: answers 201 after a delay and records the peak concurrency
+    private HttpServer pushServer;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    private final PushFanoutService fanout = new PushFanoutService(
+            new SimpleMeterRegistry(), new PushCircuitBreaker(3, 20, 8, 300, 1000), PER_ORIGIN, 5);
+
+    @BeforeEach
+    void startPushServer() throws Exception {
+        pushServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        pushServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        pushServer.createContext("/push", exchange -> {
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(RESPONSE_DELAY.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(201, -1);
+            exchange.close();
+        });
+        pushServer.start();
+    }
+
+    @AfterEach
+    void stopPushServer() {
+        pushServer.stop(0);
+    }
+
+    @Test
+    void fanOutIsBoundedPerOrigin() {
+        long start = System.nanoTime();
+        List<Outcome> outcomes = fanout.sendAll(requests("localhost", REQUESTS));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat(outcomes).hasSize(REQUESTS).containsOnly(Outcome.DELIVERED);
+        assertThat(peakInFlight).hasValue(PER_ORIGIN);
+        // REQUESTS / PER_ORIGIN waves: well below sending one by one, never faster than the bound allows
+        long waves = REQUESTS / PER_ORIGIN;
+        assertThat(elapsed).isGreaterThanOrEqualTo(RESPONSE_DELAY.multipliedBy(waves));
+        assertThat(elapsed).isLessThan(RESPONSE_DELAY.multipliedBy(REQUESTS / 2));
+    }
+
+    @Test
+    void originsAreLimitedIndependently() {
+        List<HttpRequest> requests = new ArrayList<>(requests("localhost", REQUESTS / 2));
+        requests.addAll(requests("127.0.0.1", REQUESTS / 2));
+
+        long start = System.nanoTime();
+        List<Outcome> outcomes = fanout.sendAll(requests);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat(outcomes).containsOnly(Outcome.DELIVERED);
+        assertThat(peakInFlight.get()).isGreaterThan(PER_ORIGIN).isLessThanOrEqualTo(2 * PER_ORIGIN);
+        assertThat(elapsed).isLessThan(RESPONSE_DELAY.multipliedBy(REQUESTS / PER_ORIGIN));
+    }
+
+    private List<HttpRequest> requests(String host, int count) {
+        List<HttpRequest> requests = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            URI uri = URI.create("http://" + host + ":" + pushServer.getAddress().getPort() + "/push/" + i);
+            requests.add(HttpRequest.newBuilder(uri)
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .POST(HttpRequest.BodyPublishers.ofString("payload"))
+                    .build());
+        }
+        return requests;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {200, 201, 202})
+    void acceptedIsDelivered(int status) {
+        assertThat(PushFanoutService.classify(ENDPOINT, status)).isEqualTo(Outcome.DELIVERED);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {404, 410})
+    void expiredSubscriptionIsGone(int status) {
+        assertThat(PushFanoutService.classify(ENDPOINT, status)).isEqualTo(Outcome.GONE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {PushFanoutService.NETWORK_ERROR, 429, 500, 503})
+    void transientErrorsAreRetried(int status) {
+        assertThat(PushFanoutService.classify(ENDPOINT, status)).isEqualTo(Outcome.RETRY);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {400, 401, 403, 413})
+    void otherClientErrorsFail(int status) {
+        assertThat(PushFanoutService.classify(ENDPOINT, status)).isEqualTo(Outcome.FAILED);
+    }
+}
@@ -0,0 +1,144 @@
+package org.volumteerhub.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.volumteerhub.common.enumeration.EventStatus;
+import org.volumteerhub.common.enumeration.UserRole;
+import org.volumteerhub.common.security.UserPrincipal;
+import org.volumteerhub.dto.RegistrationDto;
+import org.volumteerhub.model.Event;
+import org.volumteerhub.model.Registration;
+import org.volumteerhub.model.User;
+import org.volumteerhub.repository.EventRepository;
+import org.volumteerhub.repository.RegistrationRepository;
+import org.volumteerhub.repository.UserRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Registration listings are served by one projection query joining users and events.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class RegistrationServiceQueryCountTests {
+
+    private static final int REGISTRATIONS = 3;
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<User> users = new ArrayList<>();
+    private final List<Event> events = new ArrayList<>();
+    private final List<Registration> registrations = new ArrayList<>();
+    private User volunteer;
+
+    @BeforeEach
+    void createRegistrations() {
+        User owner = user("owner");
+        volunteer = user("volunteer");
+
+        Instant start = Instant.now().plus(Duration.ofDays(7));
+        for (int i = 0; i < REGISTRATIONS; i++) {
+            Event event = eventRepository.save(Event.builder()
+                    .owner(owner)
+                    .name("Listing " + i)
+                    .dateDeadline(start.minus(Duration.ofDays(1)))
+                    .startDate(start)
+                    .endDate(start.plus(Duration.ofHours(4)))
+                    .status(EventStatus.APPROVED)
+                    .build());
+            events.add(event);
+            registrations.add(registrationRepository.save(Registration.builder()
+                    .user(volunteer)
+                    .event(event)
+                    .build()));
+        }
+
+        UserPrincipal principal = UserPrincipal.from(volunteer);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        registrationRepository.deleteAllInBatch(registrations);
+        eventRepository.deleteAll(events);
+        userRepository.deleteAllInBatch(users);
+    }
+
+    @Test
+    void listingAPageIssuesOneStatement() {
+        Statistics statistics = statistics();
+
+        List<RegistrationDto> page = registrationService.listMine(
+                null, PageRequest.of(0, 10, Sort.by("createdAt"))).getContent();
+
+        assertListing(page);
+        // A short first page needs no count query
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void listingASliceIssuesOneStatement() {
+        Statistics statistics = statistics();
+
+        List<RegistrationDto> slice = registrationService.listMineByCursor(null, null, 10).getContent();
+
+        assertListing(slice);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private void assertListing(List<RegistrationDto> listing) {
+        assertThat(listing).hasSize(REGISTRATIONS).allSatisfy(dto -> {
+            assertThat(dto.getUsername()).isEqualTo(volunteer.getUsername());
+            assertThat(dto.getEventName()).startsWith("Listing ");
+        });
+    }
+
+    private User user(String role) {
+        User user = userRepository.save(User.builder()
+                .firstname("Registration")
+                .lastname("Listing")
+                .username(role + "-" + UUID.randomUUID())
+                .passwordHash("unused")
+                .role(UserRole.USER)
+                .isActive(true)
+                .build());
+        users.add(user);
+        return user;
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
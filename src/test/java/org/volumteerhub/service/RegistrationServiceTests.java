@@ -0,0 +1,150 @@
+package org.volumteerhub.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.volumteerhub.common.enumeration.EventStatus;
+import org.volumteerhub.common.enumeration.RegistrationStatus;
+import org.volumteerhub.common.enumeration.UserRole;
+import org.volumteerhub.common.security.UserPrincipal;
+import org.volumteerhub.dto.RegistrationDto;
+import org.volumteerhub.model.Event;
+import org.volumteerhub.model.User;
+import org.volumteerhub.repository.EventRepository;
+import org.volumteerhub.repository.RegistrationRepository;
+import org.volumteerhub.repository.UserRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Joining an event is an idempotent upsert: retries and concurrent taps end up with one registration.
+ */
+@SpringBootTest
+class RegistrationServiceTests {
+
+    private static final int TAPS = 8;
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<User> users = new ArrayList<>();
+    private Event event;
+    private User volunteer;
+
+    @BeforeEach
+    void createEvent() {
+        Instant start = Instant.now().plus(Duration.ofDays(7));
+        event = eventRepository.save(Event.builder()
+                .owner(user())
+                .name("Join")
+                .dateDeadline(start.minus(Duration.ofDays(1)))
+                .startDate(start)
+                .endDate(start.plus(Duration.ofHours(4)))
+                .status(EventStatus.APPROVED)
+                .maxParticipants(10)
+                .build());
+        volunteer = user();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        registrationRepository.deleteAllInBatch(registrationRepository.findByEventId(event.getId()));
+        eventRepository.deleteById(event.getId());
+        userRepository.deleteAllInBatch(users);
+    }
+
+    @Test
+    void repeatedJoinReturnsTheExistingRegistration() {
+        signIn(volunteer);
+
+        RegistrationDto first = registrationService.joinEvent(event.getId(), null);
+        RegistrationDto second = registrationService.joinEvent(event.getId(), null);
+
+        assertThat(second.getId()).isEqualTo(first.getId());
+        assertThat(second.getStatus()).isEqualTo(RegistrationStatus.PENDING);
+        assertThat(seatsTaken()).isEqualTo(1);
+    }
+
+    @Test
+    void repeatedIdempotencyKeyReplaysTheFirstResponse() {
+        signIn(volunteer);
+
+        RegistrationDto first = registrationService.joinEvent(event.getId(), "tap-1");
+        RegistrationDto retry = registrationService.joinEvent(event.getId(), "tap-1");
+
+        assertThat(retry).isEqualTo(first);
+        assertThat(registrationRepository.findByEventId(event.getId())).hasSize(1);
+    }
+
+    @Test
+    void concurrentTapsInsertOneRegistration() throws Exception {
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<RegistrationDto>> joins = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < TAPS; i++) {
+                joins.add(executor.submit(() -> {
+                    signIn(volunteer);
+                    go.await();
+                    return registrationService.joinEvent(event.getId(), null);
+                }));
+            }
+            go.countDown();
+
+            UUID registrationId = joins.get(0).get(30, TimeUnit.SECONDS).getId();
+            for (Future<RegistrationDto> join : joins) {
+                assertThat(join.get(30, TimeUnit.SECONDS).getId()).isEqualTo(registrationId);
+            }
+        }
+
+        assertThat(registrationRepository.findByEventId(event.getId())).hasSize(1);
+        assertThat(seatsTaken()).isEqualTo(1);
+    }
+
+    private int seatsTaken() {
+        return eventRepository.findById(event.getId()).orElseThrow().getSeatsTaken();
+    }
+
+    private static void signIn(User user) {
+        UserPrincipal principal = UserPrincipal.from(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private User user() {
+        User user = userRepository.save(User.builder()
+                .firstname("Join")
+                .lastname("Test")
+                .username("join-" + UUID.randomUUID())
+                .passwordHash("unused")
+                .role(UserRole.USER)
+                .isActive(true)
+                .build());
+        users.add(user);
+        return user;
+    }
+}
@@ -0,0 +1,146 @@
+package org.volumteerhub.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.volumteerhub.common.exception.ResourceNotFoundException;
+import org.volumteerhub.common.exception.ServiceUnavailableException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestCoalescerTest {
+
+    private static final int CALLERS = 16;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestCoalescer coalescer = new RequestCoalescer(meterRegistry, 5_000);
+
+    @Test
+    void simultaneousCallsShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return coalescer.execute("event:1", () -> {
+                        loads.incrementAndGet();
+                        await(release);
+                        return "page";
+                    });
+                }));
+            }
+
+            start.countDown();
+            // Hold the load open until every other caller has joined it
+            waitForCoalesced(CALLERS - 1);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("page");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void followersSeeTheLeadersException() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> leader = executor.submit(() -> coalescer.execute("event:2", () -> {
+                loading.countDown();
+                await(release);
+                throw new ResourceNotFoundException("Event not found");
+            }));
+            // The leader must own the key before the follower arrives
+            await(loading);
+            Future<?> follower = executor.submit(() -> coalescer.execute("event:2", () -> "unused"));
+
+            waitForCoalesced(1);
+            release.countDown();
+
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(ResourceNotFoundException.class);
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(ResourceNotFoundException.class);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void followersStopWaitingAfterMaxWait() throws Exception {
+        RequestCoalescer impatient = new RequestCoalescer(meterRegistry, 50);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> leader = executor.submit(() -> impatient.execute("event:4", () -> {
+                loading.countDown();
+                await(release);
+                return "slow";
+            }));
+            await(loading);
+
+            assertThatThrownBy(() -> impatient.execute("event:4", () -> "unused"))
+                    .isInstanceOf(ServiceUnavailableException.class);
+
+            release.countDown();
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void sequentialCallsLoadAgain() {
+        AtomicInteger loads = new AtomicInteger();
+
+        coalescer.execute("event:3", loads::incrementAndGet);
+        coalescer.execute("event:3", loads::incrementAndGet);
+
+        assertThat(loads).hasValue(2);
+        assertThat(coalescedCount()).isZero();
+    }
+
+    private void waitForCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescedCount() < expected) {
+            assertThat(System.nanoTime()).as("callers joined in time").isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private double coalescedCount() {
+        return meterRegistry.counter("request.coalesced").count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
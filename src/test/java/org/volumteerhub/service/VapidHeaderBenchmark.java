@@ -0,0 +1,96 @@
+package org.volumteerhub.service;
+
+import nl.martijndwars.webpush.Utils;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.jose4j.lang.JoseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.Security;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Authorization headers per second for a broadcast over two push-service origins:
+ * the per-origin cache against an ES256 signature for every send.
+ * Uses the VAPID keys given as -Dvapid.public.key / -Dvapid.private.key, else a fresh P-256 pair.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class VapidHeaderBenchmark {
+
+    private static final String[] ENDPOINTS = {
+            "https://fcm.googleapis.com/fcm/send/",
+            "https://updates.push.services.mozilla.com/wpush/v2/"
+    };
+
+    private VapidHeaderCache cached;
+    // refreshBefore == ttl: every header is already due for a refresh, so each send signs
+    private VapidHeaderCache uncached;
+
+    @Setup
+    public void loadKeys() throws Exception {
+        Security.addProvider(new BouncyCastleProvider());
+
+        String publicKey = System.getProperty("vapid.public.key");
+        String privateKeyValue = System.getProperty("vapid.private.key");
+        PrivateKey privateKey;
+        if (publicKey != null && privateKeyValue != null) {
+            privateKey = Utils.loadPrivateKey(privateKeyValue);
+        } else {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            privateKey = generator.generateKeyPair().getPrivate();
+            publicKey = Base64.getUrlEncoder().withoutPadding().encodeToString(new byte[65]);
+        }
+
+        Duration ttl = Duration.ofHours(12);
+        cached = new VapidHeaderCache(privateKey, publicKey, "mailto:benchmark@example.com",
+                ttl, Duration.ofHours(1));
+        uncached = new VapidHeaderCache(privateKey, publicKey, "mailto:benchmark@example.com",
+                ttl, ttl);
+    }
+
+    @Benchmark
+    public String cachedHeader() throws JoseException {
+        return cached.authorization(endpoint());
+    }
+
+    @Benchmark
+    public String signedEverySend() throws JoseException {
+        return uncached.authorization(endpoint());
+    }
+
+    private static String endpoint() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return ENDPOINTS[random.nextInt(ENDPOINTS.length)] + random.nextInt(10_000);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(VapidHeaderBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,103 @@
+package org.volumteerhub.service;
+
+import org.jose4j.jwt.JwtClaims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VapidHeaderCacheTest {
+
+    private static final Duration TTL = Duration.ofHours(12);
+    private static final Duration REFRESH_BEFORE = Duration.ofHours(1);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private VapidHeaderCache cache;
+
+    @BeforeEach
+    void createCache() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keyPair = generator.generateKeyPair();
+
+        cache = new VapidHeaderCache(keyPair.getPrivate(), "BPublicKey==", "mailto:admin@example.com",
+                TTL, REFRESH_BEFORE, clock);
+    }
+
+    @Test
+    void headerIsSharedByEndpointsOfOneOrigin() throws Exception {
+        String first = cache.authorization("https://fcm.googleapis.com/fcm/send/a");
+        String second = cache.authorization("https://fcm.googleapis.com/fcm/send/b");
+        String other = cache.authorization("https://updates.push.services.mozilla.com/wpush/v2/c");
+
+        assertThat(second).isSameAs(first);
+        assertThat(other).isNotEqualTo(first);
+        assertThat(first).startsWith("vapid t=").endsWith(", k=BPublicKey");
+    }
+
+    @Test
+    void headerIsReusedUntilTheRefreshPoint() throws Exception {
+        String endpoint = "https://fcm.googleapis.com/fcm/send/a";
+        String first = cache.authorization(endpoint);
+
+        clock.advance(TTL.minus(REFRESH_BEFORE).minusSeconds(1));
+        assertThat(cache.authorization(endpoint)).isSameAs(first);
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(cache.authorization(endpoint)).isNotEqualTo(first);
+    }
+
+    @Test
+    void tokenCarriesAudienceAndExpiry() throws Exception {
+        JwtClaims claims = claims(cache.authorization("https://fcm.googleapis.com:443/fcm/send/a"));
+
+        assertThat(claims.getAudience()).containsExactly("https://fcm.googleapis.com:443");
+        assertThat(claims.getSubject()).isEqualTo("mailto:admin@example.com");
+        assertThat(claims.getExpirationTime().getValue()).isEqualTo(clock.instant().plus(TTL).getEpochSecond());
+    }
+
+    private static JwtClaims claims(String header) throws Exception {
+        String token = header.substring("vapid t=".length(), header.indexOf(", k="));
+        String payload = token.split("\\.")[1];
+        return JwtClaims.parse(new String(Base64.getUrlDecoder().decode(payload), StandardCharsets.UTF_8));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
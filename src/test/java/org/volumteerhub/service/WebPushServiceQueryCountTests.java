@@ -0,0 +1,109 @@
+package org.volumteerhub.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.volumteerhub.common.enumeration.UserRole;
+import org.volumteerhub.model.PushSubscription;
+import org.volumteerhub.model.User;
+import org.volumteerhub.repository.PushSubscriptionRepository;
+import org.volumteerhub.repository.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Devices of a multi-user dispatch are loaded with one IN query per chunk of users, not one per user.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class WebPushServiceQueryCountTests {
+
+    private static final int RECIPIENTS = 3;
+    private static final int DEVICES = 2;
+
+    @Autowired
+    private WebPushService webPushService;
+
+    @Autowired
+    private PushSubscriptionRepository pushSubscriptionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<User> users = new ArrayList<>();
+    private final List<PushSubscription> subscriptions = new ArrayList<>();
+
+    @BeforeEach
+    void createDevices() {
+        for (int i = 0; i < RECIPIENTS; i++) {
+            User user = userRepository.save(User.builder()
+                    .firstname("Push")
+                    .lastname("Recipient")
+                    .username("push-" + UUID.randomUUID())
+                    .passwordHash("unused")
+                    .role(UserRole.USER)
+                    .isActive(true)
+                    .build());
+            users.add(user);
+            for (int d = 0; d < DEVICES; d++) {
+                subscriptions.add(pushSubscriptionRepository.save(PushSubscription.builder()
+                        .user(user)
+                        .endpoint("https://push.example/" + UUID.randomUUID())
+                        .p256dh("key")
+                        .auth("auth")
+                        .build()));
+            }
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        pushSubscriptionRepository.deleteAllInBatch(subscriptions);
+        userRepository.deleteAllInBatch(users);
+    }
+
+    @Test
+    void devicesOfAllRecipientsLoadInOneStatement() {
+        Statistics statistics = statistics();
+
+        Map<UUID, List<PushSubscription>> devices = webPushService.findSubscriptions(
+                users.stream().map(User::getId).toList());
+
+        assertThat(devices).hasSize(RECIPIENTS);
+        assertThat(devices.values()).allSatisfy(list -> assertThat(list).hasSize(DEVICES));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void largeAudiencesAreLoadedInChunks() {
+        List<UUID> audience = new ArrayList<>(users.stream().map(User::getId).toList());
+        while (audience.size() < 1500) {
+            audience.add(UUID.randomUUID());
+        }
+        Statistics statistics = statistics();
+
+        Map<UUID, List<PushSubscription>> devices = webPushService.findSubscriptions(audience);
+
+        assertThat(devices).hasSize(RECIPIENTS);
+        // Chunks of 1000 users
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -0,0 +1,45 @@
+package org.volumteerhub.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Slice;
+import org.volumteerhub.common.exception.BadRequestException;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorTest {
+
+    @Test
+    void encodedCursorDecodesToTheSameKey() {
+        Cursor cursor = new Cursor(Instant.parse("2025-03-01T10:15:30.123456Z"), UUID.randomUUID());
+
+        assertThat(Cursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void blankCursorStartsAtTheFirstSlice() {
+        assertThat(Cursor.decode(null)).isNull();
+        assertThat(Cursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void tamperedCursorIsRejected() {
+        assertThatThrownBy(() -> Cursor.decode("not-a-cursor"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void extraRowOnlySignalsANextSlice() {
+        Slice<Integer> full = Cursor.toSlice(List.of(1, 2, 3, 4), 3);
+        assertThat(full.getContent()).containsExactly(1, 2, 3);
+        assertThat(full.hasNext()).isTrue();
+
+        Slice<Integer> last = Cursor.toSlice(List.of(1, 2), 3);
+        assertThat(last.getContent()).containsExactly(1, 2);
+        assertThat(last.hasNext()).isFalse();
+    }
+}
@@ -0,0 +1,59 @@
+package org.volumteerhub.util;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Test;
+import org.volumteerhub.common.enumeration.UserRole;
+import org.volumteerhub.common.security.UserPrincipal;
+import org.volumteerhub.model.User;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtUtilTest {
+
+    @Test
+    void verifiedTokenIsServedFromTheCache() {
+        String token = JwtUtil.generateToken(user("alice"));
+
+        Claims first = JwtUtil.verify(token);
+        Claims second = JwtUtil.verify(token);
+
+        assertThat(first).isNotNull();
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void principalRoundTripsThroughTheClaims() {
+        User user = user("bob");
+        user.setTokenVersion(3);
+
+        UserPrincipal principal = JwtUtil.getPrincipal(JwtUtil.verify(JwtUtil.generateToken(user)));
+
+        assertThat(principal.getId()).isEqualTo(user.getId());
+        assertThat(principal.getUsername()).isEqualTo("bob");
+        assertThat(principal.getRole()).isEqualTo(UserRole.USER);
+        assertThat(principal.getTokenVersion()).isEqualTo(3);
+    }
+
+    @Test
+    void invalidTokensAreRejected() {
+        String honest = JwtUtil.generateToken(user("carol"));
+        String other = JwtUtil.generateToken(user("mallory"));
+        // Carol's signature on Mallory's header and payload
+        String forged = other.substring(0, other.lastIndexOf('.')) + honest.substring(honest.lastIndexOf('.'));
+
+        // Cache a valid token first, a forgery must not be answered from it
+        assertThat(JwtUtil.verify(honest)).isNotNull();
+        assertThat(JwtUtil.verify(forged)).isNull();
+        assertThat(JwtUtil.verify("not-a-jwt")).isNull();
+    }
+
+    private static User user(String username) {
+        return User.builder()
+                .id(UUID.randomUUID())
+                .username(username)
+                .role(UserRole.USER)
+                .build();
+    }
+}
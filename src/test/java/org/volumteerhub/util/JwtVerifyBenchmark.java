@@ -0,0 +1,64 @@
+package org.volumteerhub.util;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.volumteerhub.common.enumeration.UserRole;
+import org.volumteerhub.model.User;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request token check: a cached verify (digest + lookup) against a full
+ * HMAC signature check and claims parse.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class JwtVerifyBenchmark {
+
+    private String token;
+
+    @Setup
+    public void generateToken() {
+        token = JwtUtil.generateToken(User.builder()
+                .id(UUID.randomUUID())
+                .username("benchmark")
+                .role(UserRole.USER)
+                .build());
+        JwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public Claims cachedVerify() {
+        return JwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public Claims fullParse() {
+        return JwtUtil.parse(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerifyBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
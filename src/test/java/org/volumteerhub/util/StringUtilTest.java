@@ -0,0 +1,26 @@
+package org.volumteerhub.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StringUtilTest {
+
+    @Test
+    void foldStripsDiacriticsAndCase() {
+        assertThat(StringUtil.foldForSearch("Dọn rác Bãi Biển")).isEqualTo("don rac bai bien");
+        assertThat(StringUtil.foldForSearch("Đà Nẵng")).isEqualTo("da nang");
+        assertThat(StringUtil.foldForSearch("Café")).isEqualTo("cafe");
+    }
+
+    @Test
+    void foldCollapsesPunctuationAndWhitespace() {
+        assertThat(StringUtil.foldForSearch("  Beach -- clean-up,\tday! ")).isEqualTo("beach clean up day");
+    }
+
+    @Test
+    void foldOfNothingSearchableIsEmpty() {
+        assertThat(StringUtil.foldForSearch(null)).isEmpty();
+        assertThat(StringUtil.foldForSearch(" ?! ")).isEmpty();
+    }
+}